@@ -27,6 +27,7 @@
 module org.holiday.calendar.apac {
     requires org.holiday.calendar.core;
     requires org.holiday.calendar.western;
+    requires jdk.jfr;
     requires net.time4j.base;
     requires org.slf4j;
 
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one pass of the {@link JapaneseHolidayCalendar}
+ * substitute-holiday cascade and sandwiched-day detection over a year. Only
+ * passes taking at least a millisecond are recorded by default.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@Name("org.holiday.calendar.JapaneseCascade")
+@Label("Japanese Holiday Cascade")
+@Category("Holiday Calendar")
+@Description("Resolution of substitute holidays and sandwiched days for a Japanese calendar year")
+@Threshold("1 ms")
+@StackTrace(false)
+final class CascadeEvent extends jdk.jfr.Event {
+
+    @Label("Calendar Code")
+    String code;
+
+    @Label("Year")
+    int year;
+
+    @Label("Cascaded Substitutes")
+    @Description("Number of substitute holidays moved past an occupied Monday")
+    int cascaded;
+
+    @Label("Sandwiched Days")
+    @Description("Number of National Holidays inserted between two holidays")
+    int sandwiched;
+
+}
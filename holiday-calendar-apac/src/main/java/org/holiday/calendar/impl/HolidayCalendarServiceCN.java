@@ -94,9 +94,11 @@ import java.util.OptionalInt;
  *
  * <h2>Data Validity</h2>
  *
- * <p>All public holidays are computed algorithmically via Time4J Chinese calendar
- * mathematics. {@link HolidayCalendar#calculate(int)} is authoritative for any
- * year with no upper bound; {@link #dataValidThrough()} returns
+ * <p>All public holidays are computed. Spring Festival, Qingming, Dragon Boat
+ * and Mid-Autumn dates are derived from {@code ChineseLunisolarTable} for
+ * 1900 through 2200, with Time4J's Chinese calendar used only for years
+ * outside that range. {@link HolidayCalendar#calculate(int)} is authoritative
+ * for any year with no upper bound; {@link #dataValidThrough()} returns
  * {@link OptionalInt#empty()} accordingly.
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
@@ -113,8 +115,8 @@ public class HolidayCalendarServiceCN extends AbstractHolidayCalendarService {
 
     /**
      * Returns {@link OptionalInt#empty()} because all CN public holidays are
-     * computed algorithmically (Time4J Chinese calendar math for floating
-     * holidays; fixed calendar dates for the rest).
+     * computed: floating holidays from the built-in lunisolar table, or
+     * Time4J beyond 1900–2200, and fixed calendar dates for the rest.
      * {@link HolidayCalendar#calculate(int)} is authoritative for any year
      * with no upper bound.
      */
@@ -125,6 +127,10 @@ public class HolidayCalendarServiceCN extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final Holiday newYearsDay = Holiday.builder()
                 .name("New Year's Day")
                 .description("First day of new year in the Common Era (CE)")
@@ -22,11 +22,13 @@ import org.holiday.calendar.AbstractHolidayCalendarService;
 import org.holiday.calendar.Holiday;
 import org.holiday.calendar.HolidayCalendar;
 import org.holiday.calendar.function.DateRolls;
+import org.holiday.calendar.function.WorkingDays;
 import org.holiday.calendar.observance.lunar.ChineseNewYearDay;
 import org.holiday.calendar.observance.lunar.DragonBoatFestival;
 import org.holiday.calendar.observance.lunar.MidAutumnFestival;
 import org.holiday.calendar.observance.lunar.QingmingFestival;
 import org.holiday.calendar.util.CsvObservanceLoader;
+import org.holiday.calendar.util.ObservanceData;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,8 +37,8 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.OptionalInt;
+import java.util.Set;
 
 /**
  * Service for provision of the China (PBOC / CNAPS) holiday calendar.
@@ -60,15 +62,18 @@ import java.util.OptionalInt;
  *
  * <p>China's State Council annually publishes a schedule that extends some
  * holiday windows into adjacent weekdays and designates nearby Saturdays or
- * Sundays as compensatory working days. These make-up working days are not
- * modelled within the {@link HolidayCalendar} abstraction (which tracks
- * closures, not openings), but are accessible via
- * {@link #getCompensatoryWorkingDays(int)}.
+ * Sundays as compensatory working days. These make-up working days are
+ * supplied to the calendar as {@link HolidayCalendar#getWorkingDayOverrides(int)
+ * working-day overrides}, so {@code isBusinessDay} and the business-day
+ * arithmetic of the calendar count them as business days. They are also
+ * accessible via {@link #getCompensatoryWorkingDays(int)}.
  *
  * <h2>Data Validity Ranges</h2>
  *
- * <p>All public holidays in this calendar are computed algorithmically via
- * Time4J Chinese calendar mathematics. {@link HolidayCalendar#calculate(int)}
+ * <p>All public holidays in this calendar are computed rather than looked up
+ * in curated data. Lunisolar festival dates come from the packed
+ * {@code ChineseLunisolarTable} for 1900 through 2200, and from Time4J's
+ * Chinese calendar for years outside it; {@link HolidayCalendar#calculate(int)}
  * is authoritative for any year with no upper bound. Compensatory (make-up)
  * working day data is manually curated from State Council notices and has a
  * finite upper bound; call {@link #compensatoryDataValidThrough()} to obtain it.
@@ -99,19 +104,32 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
     /**
      * Holder for lazily-loaded compensatory working day data. The JLS (§12.4.1)
      * guarantees this inner class is initialized at most once, on the first access
-     * to {@code DATA}, without requiring explicit synchronization.
+     * to {@code DATA}, without requiring explicit synchronization. The data itself
+     * is reloadable, so newly published notices are picked up without a restart.
      */
     private static final class CompensatoryDaysHolder {
-        static final Map<Integer, List<LocalDate>> DATA = loadFromCsv();
-        static final int MAX_YEAR = DATA.keySet().stream()
-                .mapToInt(Integer::intValue)
-                .max()
-                .orElse(0);
+        static final ObservanceData<List<LocalDate>> DATA =
+                CsvObservanceLoader.reloadableMultiple(HolidayCalendarServiceCNY.class, COMPENSATORY_DAYS_CSV);
 
-        private static Map<Integer, List<LocalDate>> loadFromCsv() {
-            return CsvObservanceLoader.loadMultiple(
-                    HolidayCalendarServiceCNY.class, COMPENSATORY_DAYS_CSV);
+        static int maxYear() {
+            return DATA.get().keySet().stream()
+                    .mapToInt(Integer::intValue)
+                    .max()
+                    .orElse(0);
         }
+
+        static final WorkingDays WORKING_DAYS = new WorkingDays() {
+            @Override
+            public List<LocalDate> forYear(int year) {
+                final List<LocalDate> dates = DATA.get(year);
+                return dates != null ? dates : List.of();
+            }
+
+            @Override
+            public Set<String> dataResources() {
+                return Set.of(DATA.getResource());
+            }
+        };
     }
 
     public HolidayCalendarServiceCNY() {
@@ -120,7 +138,8 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
 
     /**
      * Returns {@link OptionalInt#empty()} because all CNY public
-     * holidays are computed algorithmically (Time4J Chinese calendar math).
+     * holidays are computed: lunisolar dates are read from the precomputed
+     * 1900–2200 table, falling back to Time4J outside it.
      * {@link HolidayCalendar#calculate(int)} is authoritative for any year
      * with no upper bound. For the compensatory working day ceiling, see
      * {@link #compensatoryDataValidThrough()}.
@@ -143,11 +162,15 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
      * @see #getCompensatoryWorkingDays(int)
      */
     public int compensatoryDataValidThrough() {
-        return CompensatoryDaysHolder.MAX_YEAR;
+        return CompensatoryDaysHolder.maxYear();
     }
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final Holiday newYearsDay = Holiday.builder()
                 .name("New Year's Day")
                 .description("First day of new year in the Common Era (CE)")
@@ -331,6 +354,7 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
                 .holiday(nationalDay5)
                 .holiday(nationalDay6)
                 .holiday(nationalDay7)
+                .workingDays(CompensatoryDaysHolder.WORKING_DAYS)
                 .build();
     }
 
@@ -353,6 +377,7 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
      * @param year the Gregorian year for which to retrieve make-up working days
      * @return unmodifiable list of make-up working day dates, or empty list if
      *         data is unavailable for the requested year
+     * @see HolidayCalendar#getWorkingDayOverrides(int)
      */
     public List<LocalDate> getCompensatoryWorkingDays(int year) {
         List<LocalDate> dates = CompensatoryDaysHolder.DATA.get(year);
@@ -360,7 +385,7 @@ public class HolidayCalendarServiceCNY extends AbstractHolidayCalendarService {
             LOGGER.warn("Compensatory working day data for {} is not available " +
                     "(data valid through {}). Update {} with the State Council annual " +
                     "notice once published at http://www.gov.cn/",
-                    year, CompensatoryDaysHolder.MAX_YEAR, COMPENSATORY_DAYS_CSV);
+                    year, CompensatoryDaysHolder.maxYear(), COMPENSATORY_DAYS_CSV);
             return Collections.emptyList();
         }
         return dates;
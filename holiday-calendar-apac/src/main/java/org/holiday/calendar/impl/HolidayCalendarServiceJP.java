@@ -42,6 +42,10 @@ public class HolidayCalendarServiceJP extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         HolidayCalendar base = HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -44,6 +44,10 @@ public class HolidayCalendarServiceJPY extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final Holiday yearStartJan2 = Holiday.builder()
                 .name("Year-Start Holiday")
                 .description("Bank of Japan operational closure — January 2")
@@ -45,12 +45,17 @@ public class HolidayCalendarServiceSG extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.followingMonday())
                 .weekendDays(HolidayCalendar.STANDARD_WEEKEND)
                 .holidays(SingaporeHolidays.baseHolidays(true))
+                .dataValidThrough(SingaporeHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -56,12 +56,17 @@ public class HolidayCalendarServiceSGD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(HolidayCalendar.STANDARD_WEEKEND)
                 .holidays(SingaporeHolidays.baseHolidays(false))
+                .dataValidThrough(SingaporeHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 }
@@ -21,36 +21,53 @@ package org.holiday.calendar.impl;
 import org.holiday.calendar.Holiday;
 import org.holiday.calendar.HolidayCalendar;
 import org.holiday.calendar.HolidayDate;
+import org.holiday.calendar.function.Observance;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 /**
  * A {@link HolidayCalendar} for Japanese holiday schedules that applies the
- * sandwiched-day rule (国民の休日): a non-holiday weekday falling between two
- * consecutive national holidays also becomes a holiday.
+ * cascading substitute-holiday rule (振替休日) and the sandwiched-day rule
+ * (国民の休日): a non-holiday weekday falling between two consecutive
+ * national holidays also becomes a holiday.
  *
- * <p>After the base holiday list is computed by the superclass, this class scans
- * consecutive pairs of holiday dates. Where exactly one weekday falls between
- * them, a synthetic "National Holiday" is injected into the result.
+ * <p>Both rules are resolved in a single pass over the base holiday list
+ * computed by the superclass, with the holidays of the year held in a
+ * day-of-year bitmap, so each year costs time linear in its holidays and
+ * days rather than quadratic in its holidays.
  */
 class JapaneseHolidayCalendar extends HolidayCalendar {
 
+    /**
+     * The synthetic holiday observed on the sandwiched days of this calendar,
+     * shared by all of them. Its dates depend on the other holidays of the
+     * calendar, so its observance reads them from the calculated year.
+     */
+    private final Holiday nationalHoliday = Holiday.builder()
+            .name("National Holiday")
+            .description("国民の休日 — weekday sandwiched between two national holidays")
+            .type(Holiday.Type.FLOATING)
+            .rollable(false)
+            .observance(new SandwichedDay())
+            .build();
+
     /**
      * Constructs a {@code JapaneseHolidayCalendar} by copying all state from
      * a {@link HolidayCalendar} built by the standard builder.
      */
     JapaneseHolidayCalendar(HolidayCalendar base) {
-        super(base.getCode(), base.getName(), base.getDateRoll(),
-              base.getWeekendDays(), base.getHolidays());
+        super(base);
     }
 
+    /**
+     * Get the holiday observed on the sandwiched days of this calendar.
+     */
+    Holiday getNationalHoliday() { return nationalHoliday; }
+
     /**
      * Calculates holidays for the given year, applies the cascading 振替休日 rule
      * (2007 Holiday Act amendment, Article 3 §3), then injects any sandwiched days
@@ -64,94 +81,142 @@ class JapaneseHolidayCalendar extends HolidayCalendar {
      * unaffected (they stay on their natural date per issue #125).
      */
     @Override
-    public List<HolidayDate> calculate(int year) {
-        List<HolidayDate> base = super.calculate(year);
-        List<HolidayDate> cascaded = applyCascade(base, year);
-
-        List<HolidayDate> result = new ArrayList<>(cascaded);
-        for (int i = 0; i < cascaded.size() - 1; i++) {
-            LocalDate d1 = cascaded.get(i).date();
-            LocalDate d2 = cascaded.get(i + 1).date();
-            if (ChronoUnit.DAYS.between(d1, d2) == 2) {
-                LocalDate middle = d1.plusDays(1);
-                DayOfWeek dow = middle.getDayOfWeek();
-                if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY) {
-                    Holiday sandwiched = Holiday.builder()
-                            .name("National Holiday")
-                            .description("国民の休日 — weekday sandwiched between two national holidays")
-                            .type(Holiday.Type.FLOATING)
-                            .rollable(false)
-                            .observance(y -> y == middle.getYear() ? middle : null)
-                            .build();
-                    result.add(new HolidayDate(sandwiched, middle));
+    protected List<HolidayDate> calculateYear(int year) {
+        final CascadeEvent event = new CascadeEvent();
+        event.begin();
+        final List<HolidayDate> base = super.calculateYear(year);
+        final HolidayDate[] cascaded = applyCascade(base, year, event);
+
+        final List<HolidayDate> result = new ArrayList<>(cascaded.length + 2);
+        for (int i = 0; i < cascaded.length; i++) {
+            if (i > 0) {
+                final long previous = cascaded[i - 1].date().toEpochDay();
+                if (cascaded[i].date().toEpochDay() - previous == 2 && isWeekday(previous + 1)) {
+                    result.add(new HolidayDate(nationalHoliday, LocalDate.ofEpochDay(previous + 1)));
+                    event.sandwiched++;
                 }
             }
+            result.add(cascaded[i]);
         }
 
-        return result.stream()
-                     .sorted(Comparator.comparing(HolidayDate::date))
-                     .toList();
+        if (event.shouldCommit()) {
+            event.code = getCode();
+            event.year = year;
+            event.commit();
+        }
+        return Collections.unmodifiableList(result);
     }
 
-    private List<HolidayDate> applyCascade(List<HolidayDate> base, int year) {
-        List<HolidayDate> result = new ArrayList<>(base);
-        Set<LocalDate> occupiedDates = new HashSet<>();
-        for (HolidayDate hd : base) {
-            occupiedDates.add(hd.date());
+    /**
+     * Moves each Sunday holiday whose Monday substitute is also taken by
+     * another rollable holiday to the next free weekday of the year, visiting
+     * holidays in date order.
+     *
+     * @return holidays in date order; holidays on the same date keep their
+     *         order in {@code base}
+     */
+    private HolidayDate[] applyCascade(List<HolidayDate> base, int year, CascadeEvent event) {
+        final HolidayDate[] result = base.toArray(new HolidayDate[0]);
+        if (result.length == 0) return result;
+
+        // Days are offsets from the earliest of Jan 1 and the first holiday
+        final long firstDay = Math.min(LocalDate.of(year, 1, 1).toEpochDay(), result[0].date().toEpochDay());
+        final long lastDay = Math.max(LocalDate.of(year, 12, 31).toEpochDay(), result[result.length - 1].date().toEpochDay());
+        final long endOfYear = LocalDate.of(year, 12, 31).toEpochDay() - firstDay;
+        final int days = (int) (lastDay - firstDay + 1);
+        final long[] occupied = new long[(days + 63) >>> 6];
+        final int[] rollable = new int[days];
+        for (HolidayDate holidayDate : result) {
+            final int day = (int) (holidayDate.date().toEpochDay() - firstDay);
+            occupied[day >>> 6] |= 1L << day;
+            if (holidayDate.holiday().isRollable()) rollable[day]++;
         }
 
-        for (int i = 0; i < result.size(); i++) {
-            LocalDate cascaded = findCascadeTarget(result, i, year, occupiedDates);
-            if (cascaded != null) {
-                result.set(i, new HolidayDate(result.get(i).holiday(), cascaded));
-                occupiedDates.add(cascaded);
+        boolean moved = false;
+        for (int i = 0; i < result.length; i++) {
+            final HolidayDate holidayDate = result[i];
+            final int monday = (int) (holidayDate.date().toEpochDay() - firstDay);
+            // Cheap tests first: only a rollable holiday observed on a Monday
+            // shared with another rollable holiday can cascade
+            if (!holidayDate.holiday().isRollable()
+                    || holidayDate.date().getDayOfWeek() != DayOfWeek.MONDAY
+                    || rollable[monday] < 2
+                    || !rolledFromSunday(holidayDate, year)) {
+                continue;
             }
+
+            int target = monday + 1;
+            while (target <= endOfYear
+                   && ((occupied[target >>> 6] & (1L << target)) != 0 || !isWeekday(firstDay + target))) {
+                target++;
+            }
+            if (target > endOfYear) continue;
+
+            // The Monday stays occupied by the other holiday
+            occupied[target >>> 6] |= 1L << target;
+            rollable[monday]--;
+            rollable[target]++;
+            result[i] = new HolidayDate(holidayDate.holiday(), LocalDate.ofEpochDay(firstDay + target));
+            event.cascaded++;
+            moved = true;
         }
 
-        return result.stream().sorted(Comparator.comparing(HolidayDate::date)).toList();
+        if (moved) {
+            sortByDate(result);
+        }
+        return result;
     }
 
-    private LocalDate findCascadeTarget(List<HolidayDate> result, int i, int year,
-                                        Set<LocalDate> occupiedDates) {
-        HolidayDate hd = result.get(i);
-        Holiday h = hd.holiday();
-
-        if (!h.isRollable()) return null;
-
-        LocalDate rawDate = h.dateForYear(year).orElse(null);
-        if (rawDate == null || rawDate.getDayOfWeek() != DayOfWeek.SUNDAY) return null;
-
-        LocalDate expectedMonday = rawDate.plusDays(1);
-        if (!hd.date().equals(expectedMonday)) return null;
+    /**
+     * Determine whether a holiday observed on a Monday falls on the preceding
+     * Sunday.
+     */
+    private static boolean rolledFromSunday(HolidayDate holidayDate, int year) {
+        final LocalDate rawDate = holidayDate.holiday().dateForYear(year).orElse(null);
+        return rawDate != null && rawDate.equals(holidayDate.date().minusDays(1));
+    }
 
-        // Scan the list rather than occupiedDates: the Set stores each date once, so
-        // two holidays sharing the same date look identical in the Set — we need to
-        // know whether a *different* holiday occupies expectedMonday.
-        if (!hasOtherHolidayOn(result, i, expectedMonday)) return null;
+    /**
+     * Stable insertion sort by date. Only cascaded holidays are out of place,
+     * each by a few days, so this does little work.
+     */
+    private static void sortByDate(HolidayDate[] holidays) {
+        for (int i = 1; i < holidays.length; i++) {
+            final HolidayDate holiday = holidays[i];
+            int j = i;
+            while (j > 0 && holidays[j - 1].date().isAfter(holiday.date())) {
+                holidays[j] = holidays[j - 1];
+                j--;
+            }
+            holidays[j] = holiday;
+        }
+    }
 
-        // expectedMonday stays in occupiedDates (the other holiday still occupies it).
-        return firstFreeWeekday(expectedMonday, year, occupiedDates);
+    private static boolean isWeekday(long epochDay) {
+        // 1970-01-01 was a Thursday; Saturday and Sunday are 2 and 3
+        final long dayOfWeek = Math.floorMod(epochDay, 7L);
+        return dayOfWeek != 2 && dayOfWeek != 3;
     }
 
-    private boolean hasOtherHolidayOn(List<HolidayDate> result, int excludeIndex, LocalDate date) {
-        for (int j = 0; j < result.size(); j++) {
-            if (j != excludeIndex
-                    && date.equals(result.get(j).date())
-                    && result.get(j).holiday().isRollable()) {   // only rollable national holidays block cascade
-                return true;
+    /**
+     * Observance of {@link #nationalHoliday}: the first sandwiched day of the
+     * year, if any. Each {@link HolidayDate} of the holiday carries its own
+     * date, which differs from this one only in a year with several
+     * sandwiched days.
+     */
+    private final class SandwichedDay implements Observance {
+
+        @Override
+        public LocalDate apply(Integer year) {
+            for (HolidayDate holidayDate : calculate(year)) {
+                if (holidayDate.holiday() == nationalHoliday) return holidayDate.date();
             }
+            return null;
         }
-        return false;
-    }
 
-    private LocalDate firstFreeWeekday(LocalDate after, int year, Set<LocalDate> occupiedDates) {
-        LocalDate candidate = after.plusDays(1);
-        while (candidate.getYear() == year
-                && (occupiedDates.contains(candidate)
-                    || candidate.getDayOfWeek() == DayOfWeek.SATURDAY
-                    || candidate.getDayOfWeek() == DayOfWeek.SUNDAY)) {
-            candidate = candidate.plusDays(1);
+        @Override
+        public boolean test(Integer year) {
+            return apply(year) != null;
         }
-        return candidate.getYear() == year ? candidate : null;
     }
 }
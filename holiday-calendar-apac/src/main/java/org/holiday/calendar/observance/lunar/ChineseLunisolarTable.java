@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.lunar;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.ChineseCalendar;
+import net.time4j.calendar.EastAsianMonth;
+import net.time4j.calendar.EastAsianYear;
+
+import java.time.LocalDate;
+
+/**
+ * Precomputed Chinese lunisolar calendar for the Gregorian years
+ * {@value #FIRST_YEAR} through {@value #LAST_YEAR}, from which the dates of
+ * the Chinese festivals are derived by integer arithmetic.
+ *
+ * <p>Each year is packed into a single {@code int}:</p>
+ * <ul>
+ *   <li>bits 0–12: length of each month of the Chinese year beginning in the
+ *       Gregorian year, in order and counting a leap month in its place, a
+ *       set bit denoting 30 days and a clear bit 29;</li>
+ *   <li>bits 13–16: number of the month followed by a leap month, or 0 if
+ *       the year has none;</li>
+ *   <li>bits 17–18: day of April of Qingming less 4;</li>
+ *   <li>bits 19–23: day of the Gregorian year of Chinese New Year less 21,
+ *       i.e. days after 21 January.</li>
+ * </ul>
+ *
+ * <p>The table was generated from Time4J's {@code ChineseCalendar}, which
+ * remains the source of dates for years outside it and is only loaded when
+ * such a year is requested. {@code ChineseLunisolarTableTest} checks the
+ * table against Time4J for every year it covers.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class ChineseLunisolarTable {
+
+    /** First Gregorian year covered by the table. */
+    static final int FIRST_YEAR = 1900;
+
+    /** Last Gregorian year covered by the table. */
+    static final int LAST_YEAR = 2200;
+
+    private static final int MONTH_LENGTH_MASK = 0x1FFF;
+    private static final int LEAP_MONTH_SHIFT = 13;
+    private static final int QINGMING_SHIFT = 17;
+    private static final int NEW_YEAR_SHIFT = 19;
+
+    private static final int[] YEARS = {
+        0x5316d2, 0xea0752, 0x940ea5, 0x44b64a, 0xd2064b, 0x720a9b, 0x24955a, 0xbc056a,   // 1900
+        0x620b59, 0x0a5752, 0xa40752, 0x4cdb25, 0xe20b25, 0x820a4b, 0x2ab4ab, 0xc402ad,   // 1908
+        0x6a056b, 0x124b69, 0xaa0da9, 0x5cfd92, 0xf20e92, 0x920d25, 0x3aba4d, 0xd40a56,   // 1916
+        0x7a02b6, 0x1a95b5, 0xba06d4, 0x640ea9, 0x125e92, 0xa20e92, 0x4acd26, 0xdc052b,   // 1924
+        0x820a57, 0x2ab2b6, 0xc20b5a, 0x7406d4, 0x1a6ec9, 0xaa0749, 0x52f693, 0xec0a93,   // 1932
+        0x92052b, 0x32ca5b, 0xca0aad, 0x7c056a, 0x229b55, 0xba0ba4, 0x620b49, 0x0a5a93,   // 1940
+        0xa20a95, 0x42f52d, 0xda0536, 0x820aad, 0x32b5aa, 0xc205b2, 0x6a0da5, 0x1a7d4a,   // 1948
+        0xb20d4a, 0x530a95, 0xe20a97, 0x920556, 0x3acab5, 0xca0ad5, 0x7a06d2, 0x228ea5,   // 1956
+        0xba0ea5, 0x62064a, 0x026c97, 0x9a0a9b, 0x4af55a, 0xda056a, 0x820b69, 0x32b752,   // 1964
+        0xca0b52, 0x6a0b25, 0x12964b, 0xaa0a4b, 0x5114ab, 0xe202ad, 0x8a056d, 0x3acb69,   // 1972
+        0xd00da9, 0x7a0d92, 0x229d25, 0xba0d25, 0x615a4d, 0xf20a56, 0x9a02b6, 0x42c5b5,   // 1980
+        0xd806d5, 0x820ea9, 0x32be92, 0xca0e92, 0x700d26, 0x126a56, 0xa20a57, 0x5314d6,   // 1988
+        0xe8035a, 0x8a06d5, 0x3ab6c9, 0xd20749, 0x780693, 0x1a952b, 0xb2052b, 0x5a0a5b,   // 1996
+        0x08555a, 0x9a056a, 0x42fb55, 0xe20ba4, 0x880b49, 0x28ba93, 0xc20a95, 0x6a052d,   // 2004
+        0x108aad, 0xa00ab5, 0x5335aa, 0xea05d2, 0x900da5, 0x38dd4a, 0xd20d4a, 0x7a0c95,   // 2012
+        0x20952e, 0xb00556, 0x5a0ab5, 0x0a55b2, 0xa006d2, 0x40cea5, 0xda0725, 0x82064b,   // 2020
+        0x28ac97, 0xb80cab, 0x6a055a, 0x126ad6, 0xa80b69, 0x517752, 0xea0b52, 0x920b25,   // 2028
+        0x38da4b, 0xc80a4b, 0x7204ab, 0x1aa55b, 0xb005ad, 0x580b6a, 0x085b52, 0xa20d92,   // 2036
+        0x48fd25, 0xd80d25, 0x800a55, 0x2ab4ad, 0xc004b6, 0x6005b5, 0x106daa, 0xaa0ec9,   // 2044
+        0x591e92, 0xe80e92, 0x900d26, 0x3aca56, 0xc80a57, 0x7004d6, 0x1886d5, 0xb20755,   // 2052
+        0x600749, 0x006e93, 0x980693, 0x42f52b, 0xd8052b, 0x780a5b, 0x28b55a, 0xc2056a,   // 2060
+        0x680b65, 0x10974a, 0xa80b4a, 0x531a95, 0xe80a95, 0x88052d, 0x30caad, 0xc80ab5,   // 2068
+        0x7805aa, 0x188ba5, 0xb00da5, 0x600d4a, 0x087c95, 0x980c96, 0x40f94e, 0xd80556,   // 2076
+        0x800ab5, 0x28b5b2, 0xc006d2, 0x680ea5, 0x188e4a, 0xa0068b, 0x490c97, 0xe004ab,   // 2084
+        0x88055b, 0x30cad6, 0xc80b6a, 0x780752, 0x209725, 0xb00b25, 0x580a8b, 0x00549b,   // 2092
+        0x9a04ab, 0x42e95b, 0xda05ad, 0x8a0baa, 0x38bb52, 0xca0d92, 0x720d25, 0x1a9a4b,   // 2100
+        0xb00a55, 0x5334ad, 0xea04b6, 0x9206b5, 0x40cdaa, 0xd20ec9, 0x820e92, 0x2a9d26,   // 2108
+        0xc00d2a, 0x620a56, 0x0a74b6, 0xa20556, 0x48ead5, 0xda0b55, 0x8a074a, 0x32ae93,   // 2116
+        0xc80695, 0x6a052b, 0x128a57, 0xaa0a9b, 0x59755a, 0xea056a, 0x920b65, 0x42d74a,   // 2124
+        0xd80b4a, 0x7a0a95, 0x22b52b, 0xba054d, 0x600aad, 0x08556a, 0xa205aa, 0x4aeba5,   // 2132
+        0xe00da5, 0x880d4a, 0x32bd15, 0xca0d16, 0x70094e, 0x108aad, 0xaa0ad6, 0x5b75b4,   // 2140
+        0xf006d2, 0x900ea5, 0x42ce8a, 0xd2068b, 0x780d17, 0x20a956, 0xb2095b, 0x620ada,   // 2148
+        0x1076d4, 0xa00754, 0x4af745, 0xe20b45, 0x880a8b, 0x28d52b, 0xc204ad, 0x6a096b,   // 2156
+        0x188b5a, 0xa80baa, 0x5b5b54, 0xf20da2, 0x980d45, 0x38da95, 0xd00a95, 0x7a052d,   // 2164
+        0x20a9ad, 0xb00ab5, 0x600daa, 0x127da4, 0xa80ea2, 0x48fd46, 0xe00d4a, 0x8a0a96,   // 2172
+        0x30d536, 0xc0055a, 0x680ad5, 0x1a96ca, 0xb00752, 0x500ea5, 0x004d4a, 0x92054b,   // 2180
+        0x38ca97, 0xc80aab, 0x78055a, 0x22aad5, 0xb80b65, 0x600752, 0x087aa5, 0xa20b25,   // 2188
+        0x48fa4b, 0xd8094d, 0x800aad, 0x32d56a, 0xca05b4    // 2196
+    };
+
+    /** Epoch day of Chinese New Year for each year in the table. */
+    private static final int[] NEW_YEAR_EPOCH_DAYS = new int[YEARS.length];
+
+    static {
+        for (int i = 0; i < YEARS.length; i++) {
+            final long january21 = LocalDate.of(FIRST_YEAR + i, 1, 21).toEpochDay();
+            NEW_YEAR_EPOCH_DAYS[i] = Math.toIntExact(january21 + (YEARS[i] >>> NEW_YEAR_SHIFT));
+        }
+    }
+
+    private ChineseLunisolarTable() {}
+
+    static boolean contains(int year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    /**
+     * Get the date of Chinese New Year, the first day of the first month of
+     * the Chinese year beginning in the given Gregorian year.
+     *
+     * @param year Gregorian year
+     * @return date of Chinese New Year
+     */
+    static LocalDate newYear(int year) {
+        return LocalDate.ofEpochDay(newYearEpochDay(year));
+    }
+
+    static long newYearEpochDay(int year) {
+        if (!contains(year)) {
+            return Fallback.newYear(year).toEpochDay();
+        }
+        return NEW_YEAR_EPOCH_DAYS[year - FIRST_YEAR];
+    }
+
+    /**
+     * Get the Gregorian date of the given day of a regular (non-leap) month of
+     * the Chinese year beginning in the given Gregorian year.
+     *
+     * @param year       Gregorian year in which the Chinese year begins
+     * @param month      Chinese month, 1–12
+     * @param dayOfMonth day of the Chinese month, 1–30
+     * @return Gregorian date
+     */
+    static LocalDate lunarDate(int year, int month, int dayOfMonth) {
+        if (!contains(year)) {
+            return Fallback.lunarDate(year, month, dayOfMonth);
+        }
+        final int entry = YEARS[year - FIRST_YEAR];
+        final int leapMonth = (entry >>> LEAP_MONTH_SHIFT) & 0xF;
+        final int monthIndex = (leapMonth != 0 && leapMonth < month) ? month : month - 1;
+        final int monthLengths = entry & MONTH_LENGTH_MASK & ((1 << monthIndex) - 1);
+        final long offset = 29L * monthIndex + Integer.bitCount(monthLengths) + dayOfMonth - 1;
+        return LocalDate.ofEpochDay(NEW_YEAR_EPOCH_DAYS[year - FIRST_YEAR] + offset);
+    }
+
+    /**
+     * Get the number of the month followed by a leap month in the Chinese
+     * year beginning in the given Gregorian year.
+     *
+     * @param year Gregorian year, within the table
+     * @return leap month number, or 0 if the year has no leap month
+     */
+    static int leapMonth(int year) {
+        return (YEARS[year - FIRST_YEAR] >>> LEAP_MONTH_SHIFT) & 0xF;
+    }
+
+    /**
+     * Get the date of Qingming, the solar term at ecliptic longitude 15°.
+     *
+     * @param year Gregorian year
+     * @return date of Qingming, 4–6 April
+     */
+    static LocalDate qingming(int year) {
+        if (!contains(year)) {
+            return Fallback.qingming(year);
+        }
+        return LocalDate.of(year, 4, 4 + ((YEARS[year - FIRST_YEAR] >>> QINGMING_SHIFT) & 0x3));
+    }
+
+    /**
+     * Astronomical computation via Time4J for years outside the table. Each
+     * result is memoized by year, month and day in a small direct-mapped
+     * cache, so the observances derived from one date (such as the days of
+     * the New Year holiday) share a single conversion per year.
+     */
+    private static final class Fallback {
+
+        private static final int CACHE_BITS = 8;
+        private static final int QINGMING = 0;
+
+        private record Entry(long key, long epochDay) {}
+
+        // Racy reads are safe as entries are immutable; a lost write is a miss
+        private static final Entry[] CACHE = new Entry[1 << CACHE_BITS];
+
+        static LocalDate newYear(int year) {
+            return date(year, 1, 1);
+        }
+
+        static LocalDate lunarDate(int year, int month, int dayOfMonth) {
+            return date(year, month, dayOfMonth);
+        }
+
+        static LocalDate qingming(int year) {
+            return date(year, QINGMING, 0);
+        }
+
+        private static LocalDate date(int year, int month, int dayOfMonth) {
+            final long key = ((long) year << 10) | (month << 5) | dayOfMonth;
+            final int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - CACHE_BITS));
+            final Entry entry = CACHE[slot];
+            if (entry != null && entry.key() == key) {
+                return LocalDate.ofEpochDay(entry.epochDay());
+            }
+            final LocalDate date = convert(year, month, dayOfMonth);
+            CACHE[slot] = new Entry(key, date.toEpochDay());
+            return date;
+        }
+
+        private static LocalDate convert(int year, int month, int dayOfMonth) {
+            if (month == QINGMING) {
+                return ChineseCalendar.ofQingMing(year).transform(PlainDate.axis()).toTemporalAccessor();
+            }
+            if (month == 1 && dayOfMonth == 1) {
+                return ChineseCalendar.ofNewYear(year).transform(PlainDate.axis()).toTemporalAccessor();
+            }
+            return ChineseCalendar.of(EastAsianYear.forGregorian(year), EastAsianMonth.valueOf(month), dayOfMonth)
+                .transform(PlainDate.axis())
+                .toTemporalAccessor();
+        }
+
+    }
+
+}
@@ -19,8 +19,6 @@
 package org.holiday.calendar.observance.lunar;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import net.time4j.PlainDate;
-import net.time4j.calendar.ChineseCalendar;
 
 import java.time.LocalDate;
 
@@ -34,9 +32,7 @@ public class ChineseNewYearSecondDay extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        ChineseCalendar cny = ChineseCalendar.ofNewYear(year);
-        PlainDate plain = cny.transform(PlainDate.axis());
-        return plain.toTemporalAccessor().plusDays(1);
+        return LocalDate.ofEpochDay(ChineseLunisolarTable.newYearEpochDay(year) + 1);
     }
 
 }
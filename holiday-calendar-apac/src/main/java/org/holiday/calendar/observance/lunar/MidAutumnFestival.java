@@ -19,10 +19,6 @@
 package org.holiday.calendar.observance.lunar;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import net.time4j.PlainDate;
-import net.time4j.calendar.ChineseCalendar;
-import net.time4j.calendar.EastAsianMonth;
-import net.time4j.calendar.EastAsianYear;
 
 import java.time.LocalDate;
 
@@ -30,8 +26,9 @@ import java.time.LocalDate;
  * Observance of Mid-Autumn Festival (中秋节), which falls on the 15th day of
  * the 8th month of the Chinese lunisolar calendar — the full moon of autumn.
  *
- * <p>The date is computed algorithmically via Time4J's {@code ChineseCalendar},
- * using the Chinese year that begins in the given Gregorian year.</p>
+ * <p>The date is counted from the start of the Chinese year that begins in the
+ * given Gregorian year, using the month lengths of the precomputed
+ * {@link ChineseLunisolarTable lunisolar table}.</p>
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
@@ -39,12 +36,7 @@ public class MidAutumnFestival extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        ChineseCalendar date = ChineseCalendar.of(
-                EastAsianYear.forGregorian(year),
-                EastAsianMonth.valueOf(8),
-                15);
-        PlainDate plain = date.transform(PlainDate.axis());
-        return plain.toTemporalAccessor();
+        return ChineseLunisolarTable.lunarDate(year, 8, 15);
     }
 
 }
@@ -19,8 +19,6 @@
 package org.holiday.calendar.observance.lunar;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import net.time4j.PlainDate;
-import net.time4j.calendar.ChineseCalendar;
 
 import java.time.LocalDate;
 
@@ -29,9 +27,9 @@ import java.time.LocalDate;
  * the solar term at ecliptic longitude 15° — the 5th of the 24 Chinese solar
  * terms. It occurs on 4 or 5 April in the Gregorian calendar.
  *
- * <p>The date is computed via Time4J's {@code ChineseCalendar.ofQingMing(year)},
- * which applies the {@code SolarTerm.MINOR_03_QINGMING_015.sinceLichun()} operator
- * using precise astronomical solar-longitude calculations.</p>
+ * <p>The date is read from the precomputed {@link ChineseLunisolarTable lunisolar
+ * table}, generated with Time4J's {@code ChineseCalendar.ofQingMing(year)} from
+ * precise astronomical solar-longitude calculations.</p>
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
@@ -39,9 +37,7 @@ public class QingmingFestival extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        ChineseCalendar qingming = ChineseCalendar.ofQingMing(year);
-        PlainDate plain = qingming.transform(PlainDate.axis());
-        return plain.toTemporalAccessor();
+        return ChineseLunisolarTable.qingming(year);
     }
 
 }
@@ -20,9 +20,10 @@ package org.holiday.calendar.observance.lunar;
 
 import org.holiday.calendar.observance.AbstractObservance;
 import org.holiday.calendar.util.CsvObservanceLoader;
+import org.holiday.calendar.util.ObservanceData;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * Observance of Vesak Day (also known as Buddha's Birthday), commemorating
@@ -44,18 +45,23 @@ import java.util.Map;
 public class VesakDay extends AbstractObservance {
 
     private static final class DatesHolder {
-        static final Map<Integer, LocalDate> DATA =
-            CsvObservanceLoader.loadSingle(VesakDay.class, "vesak-day.csv");
+        static final ObservanceData<LocalDate> DATA =
+            CsvObservanceLoader.reloadableSingle(VesakDay.class, "vesak-day.csv");
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return DatesHolder.DATA.get(year);
+        return DatesHolder.DATA.table().get(year);
     }
 
     @Override
     protected boolean isValidYear(int year) {
-        return DatesHolder.DATA.containsKey(year);
+        return DatesHolder.DATA.table().contains(year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(DatesHolder.DATA.getResource());
     }
 
 }
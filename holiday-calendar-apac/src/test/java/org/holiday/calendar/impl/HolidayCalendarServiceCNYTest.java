@@ -263,6 +263,27 @@ public class HolidayCalendarServiceCNYTest {
         assertThrows(UnsupportedOperationException.class, () -> makeUpDays.add(LocalDate.of(2024, 1, 1)));
     }
 
+    @Test
+    public void testCompensatoryWorkingDaysAreBusinessDays() {
+        HolidayCalendar calendar = service.getHolidayCalendar();
+        assertEquals(calendar.getWorkingDayOverrides(2024), service.getCompensatoryWorkingDays(2024));
+        assertTrue(calendar.getDataResources().stream().anyMatch(r -> r.endsWith("cny-compensatory-working-days.csv")));
+
+        // Sunday 4 February 2024 was worked ahead of Spring Festival
+        LocalDate makeUpSunday = LocalDate.of(2024, Month.FEBRUARY, 4);
+        assertTrue(calendar.isWeekend(makeUpSunday));
+        assertTrue(calendar.isWorkingDayOverride(makeUpSunday));
+        assertTrue(calendar.isBusinessDay(makeUpSunday));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, Month.FEBRUARY, 3)));
+        assertEquals(calendar.nextBusinessDay(LocalDate.of(2024, Month.FEBRUARY, 2)), makeUpSunday);
+
+        // Sunday 29 September 2024, ahead of National Day Golden Week
+        LocalDate friday = LocalDate.of(2024, Month.SEPTEMBER, 27);
+        assertEquals(calendar.addBusinessDays(friday, 1), LocalDate.of(2024, Month.SEPTEMBER, 29));
+        assertEquals(calendar.addBusinessDays(friday, 2), LocalDate.of(2024, Month.SEPTEMBER, 30));
+        assertEquals(calendar.addBusinessDays(friday, 3), LocalDate.of(2024, Month.OCTOBER, 8));
+    }
+
     // --- Expected holiday names present in the calendar definition ---
 
     @DataProvider
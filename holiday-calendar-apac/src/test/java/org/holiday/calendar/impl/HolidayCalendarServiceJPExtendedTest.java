@@ -20,15 +20,23 @@ package org.holiday.calendar.impl;
 
 import org.holiday.calendar.HolidayCalendar;
 import org.holiday.calendar.HolidayDate;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.testng.Assert.*;
 
@@ -618,6 +626,46 @@ public class HolidayCalendarServiceJPExtendedTest {
                      year + ": holiday list must not contain duplicate observed dates");
     }
 
+    @Test
+    public void testParallelCalculateMatchesSequential() {
+        assertEquals(calendar.calculate(1900, 2100, ForkJoinPool.commonPool()), calendar.calculate(1900, 2100));
+    }
+
+    @Test
+    public void testSandwichedDaysShareNationalHoliday() {
+        List<HolidayDate> sandwiched = calendar.calculate(1990, 2100).stream()
+                .filter(hd -> "National Holiday".equals(hd.getHoliday().getName()))
+                .toList();
+        assertFalse(sandwiched.isEmpty());
+        for (HolidayDate hd : sandwiched) {
+            assertSame(hd.getHoliday(), ((JapaneseHolidayCalendar) calendar).getNationalHoliday(),
+                       "Sandwiched day " + hd.getDate());
+        }
+    }
+
+    @Test
+    public void testCascadeEmitsFlightRecorderEvent() throws IOException {
+        Path file = Files.createTempFile("jp-cascade", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.holiday.calendar.JapaneseCascade").withThreshold(Duration.ZERO);
+            recording.start();
+            new HolidayCalendarServiceJP().getHolidayCalendar().calculate(2026);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("org.holiday.calendar.JapaneseCascade"))
+                    .toList();
+            assertEquals(events.size(), 1);
+            assertEquals(events.getFirst().getInt("year"), 2026);
+            // 2026-05-06 substitutes for Constitution Memorial Day; 2026-09-22 is sandwiched
+            assertEquals(events.getFirst().getInt("cascaded"), 1);
+            assertEquals(events.getFirst().getInt("sandwiched"), 1);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     // =========================================================================
     // Helpers
     // =========================================================================
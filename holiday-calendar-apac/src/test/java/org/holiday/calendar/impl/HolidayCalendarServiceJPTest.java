@@ -74,6 +74,15 @@ public class HolidayCalendarServiceJPTest {
         }
     }
 
+    @Test
+    public void testCalculateIsCached() {
+        HolidayCalendar calendar = service.getHolidayCalendar();
+        List<HolidayDate> holidays = calendar.calculate(2019);
+        assertSame(calendar.calculate(2019), holidays);
+        assertTrue(holidays.stream().anyMatch(hd -> hd.getHoliday().getName().equals("National Holiday")),
+                   "Cached result should include sandwiched days");
+    }
+
     // ── Equinox dates ─────────────────────────────────────────────────────────
 
     @Test
@@ -174,6 +183,17 @@ public class HolidayCalendarServiceJPTest {
         assertTrue(sandwiched.isPresent(), "Sep 22, 2009 should be a National Holiday (Silver Week)");
     }
 
+    @Test
+    public void testSilverWeek2009_NationalHolidayDateForYear() {
+        HolidayDate sandwiched = service.getHolidayCalendar().calculate(2009).stream()
+                .filter(hd -> "National Holiday".equals(hd.getHoliday().getName()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(sandwiched.getHoliday().dateForYear(2009), Optional.of(LocalDate.of(2009, Month.SEPTEMBER, 22)));
+        // 2010 has no sandwiched day
+        assertEquals(sandwiched.getHoliday().dateForYear(2010), Optional.empty());
+    }
+
     @Test
     public void test2019ImperialTransition() {
         // Apr 30 (Abdication) and May 2 (sandwiched between Apr 30 and May 3) and May 1 (Enthronement)
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.lunar;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.ChineseCalendar;
+import net.time4j.calendar.EastAsianMonth;
+import net.time4j.calendar.EastAsianYear;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.testng.Assert.*;
+
+public class ChineseLunisolarTableTest {
+
+    @Test
+    public void testNewYearMatchesTime4J() {
+        for (int year = ChineseLunisolarTable.FIRST_YEAR; year <= ChineseLunisolarTable.LAST_YEAR; year++) {
+            assertEquals(ChineseLunisolarTable.newYear(year), toLocalDate(ChineseCalendar.ofNewYear(year)),
+                         "New year mismatch in " + year);
+        }
+    }
+
+    @Test
+    public void testMonthStartsMatchTime4J() {
+        for (int year = ChineseLunisolarTable.FIRST_YEAR; year <= ChineseLunisolarTable.LAST_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                ChineseCalendar expected = ChineseCalendar.of(
+                        EastAsianYear.forGregorian(year), EastAsianMonth.valueOf(month), 1);
+                assertEquals(ChineseLunisolarTable.lunarDate(year, month, 1), toLocalDate(expected),
+                             "Start of month " + month + " mismatch in " + year);
+            }
+        }
+    }
+
+    @Test
+    public void testLeapMonthMatchesTime4J() {
+        for (int year = ChineseLunisolarTable.FIRST_YEAR; year <= ChineseLunisolarTable.LAST_YEAR; year++) {
+            int leapMonth = ChineseLunisolarTable.leapMonth(year);
+            ChineseCalendar newYear = ChineseCalendar.ofNewYear(year);
+            assertEquals(leapMonth != 0, newYear.isLeapYear(), "Leap year mismatch in " + year);
+            if (leapMonth != 0) {
+                ChineseCalendar leapStart = ChineseCalendar.of(
+                        EastAsianYear.forGregorian(year), EastAsianMonth.valueOf(leapMonth).withLeap(), 1);
+                assertEquals(toLocalDate(leapStart).toEpochDay(),
+                             ChineseLunisolarTable.lunarDate(year, leapMonth, 1).toEpochDay()
+                                 + ChineseCalendar.of(EastAsianYear.forGregorian(year),
+                                                      EastAsianMonth.valueOf(leapMonth), 1).lengthOfMonth(),
+                             "Leap month " + leapMonth + " mismatch in " + year);
+            }
+        }
+    }
+
+    @Test
+    public void testQingmingMatchesTime4J() {
+        for (int year = ChineseLunisolarTable.FIRST_YEAR; year <= ChineseLunisolarTable.LAST_YEAR; year++) {
+            assertEquals(ChineseLunisolarTable.qingming(year), toLocalDate(ChineseCalendar.ofQingMing(year)),
+                         "Qingming mismatch in " + year);
+        }
+    }
+
+    @Test
+    public void testOutsideTableFallsBackToTime4J() {
+        for (int year : new int[] {1850, ChineseLunisolarTable.FIRST_YEAR - 1, ChineseLunisolarTable.LAST_YEAR + 1}) {
+            assertFalse(ChineseLunisolarTable.contains(year));
+            assertEquals(ChineseLunisolarTable.newYear(year), toLocalDate(ChineseCalendar.ofNewYear(year)));
+            assertEquals(ChineseLunisolarTable.qingming(year), toLocalDate(ChineseCalendar.ofQingMing(year)));
+            assertEquals(ChineseLunisolarTable.lunarDate(year, 8, 15), toLocalDate(ChineseCalendar.of(
+                    EastAsianYear.forGregorian(year), EastAsianMonth.valueOf(8), 15)));
+        }
+    }
+
+    @Test
+    public void testOutsideTableRepeatedLookupsMatchTime4J() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int year = ChineseLunisolarTable.LAST_YEAR + 1; year <= ChineseLunisolarTable.LAST_YEAR + 150; year++) {
+                assertEquals(ChineseLunisolarTable.newYearEpochDay(year),
+                             toLocalDate(ChineseCalendar.ofNewYear(year)).toEpochDay(), "New year mismatch in " + year);
+                assertEquals(ChineseLunisolarTable.qingming(year), toLocalDate(ChineseCalendar.ofQingMing(year)),
+                             "Qingming mismatch in " + year);
+                assertEquals(ChineseLunisolarTable.lunarDate(year, 5, 5), toLocalDate(ChineseCalendar.of(
+                        EastAsianYear.forGregorian(year), EastAsianMonth.valueOf(5), 5)),
+                             "Dragon Boat mismatch in " + year);
+            }
+        }
+    }
+
+    @Test
+    public void testKnownDates() {
+        assertEquals(ChineseLunisolarTable.newYear(2024), LocalDate.of(2024, Month.FEBRUARY, 10));
+        assertEquals(new DragonBoatFestival().apply(2023), LocalDate.of(2023, Month.JUNE, 22));   // after leap 2nd month
+        assertEquals(new MidAutumnFestival().apply(2025), LocalDate.of(2025, Month.OCTOBER, 6));  // after leap 6th month
+        assertEquals(new QingmingFestival().apply(2024), LocalDate.of(2024, Month.APRIL, 4));
+        assertEquals(new ChineseNewYearDay(7).apply(2024), LocalDate.of(2024, Month.FEBRUARY, 16));
+    }
+
+    private static LocalDate toLocalDate(ChineseCalendar date) {
+        return date.transform(PlainDate.axis()).toTemporalAccessor();
+    }
+
+}
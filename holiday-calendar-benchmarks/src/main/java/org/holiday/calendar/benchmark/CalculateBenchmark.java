@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.Holiday;
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.HolidayDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HolidayCalendar#calculate(int)},
+ * {@link HolidayCalendar#calculate(int, int)},
+ * {@link HolidayCalendar#calculateByYear(int, int)} and the epoch-day bulk API
+ * for every shipped calendar.
+ *
+ * <p>{@code calculateHotYear} repeatedly asks for the same year and therefore
+ * measures the year cache. {@code calculateColdYear} cycles through more years
+ * than the cache holds, so every call computes the year from scratch.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculateBenchmark {
+
+    static final int HOT_YEAR = 2026;
+    static final int COLD_FROM_YEAR = 1950;
+    static final int COLD_YEARS = 150;
+    static final int RANGE_FROM_YEAR = 2026;
+    static final int RANGE_TO_YEAR = 2055;
+
+    @Param({"AE", "AED", "AU", "AUD", "BH", "BHD", "CA", "CAD", "CH", "CHF", "CN", "CNY",
+            "DE", "EG", "EGP", "EUR", "FR", "GBP", "IL", "ILS", "JO", "JOD", "JP", "JPY",
+            "KW", "KWD", "MA", "MAD", "QA", "QAR", "SA", "SAR", "SG", "SGD", "TR", "TRY",
+            "UK", "US", "USD"})
+    public String code;
+
+    private HolidayCalendar calendar;
+    private int nextYear;
+    private int[] epochDays;
+    private Holiday[] holidays;
+
+    @Setup
+    public void setup() {
+        calendar = new HolidayCalendarFactory().create(code);
+        nextYear = 0;
+        final int size = calendar.calculateEpochDays(RANGE_FROM_YEAR, RANGE_TO_YEAR).length;
+        epochDays = new int[size];
+        holidays = new Holiday[size];
+    }
+
+    @Benchmark
+    public List<HolidayDate> calculateHotYear() {
+        return calendar.calculate(HOT_YEAR);
+    }
+
+    @Benchmark
+    public List<HolidayDate> calculateColdYear() {
+        final int year = COLD_FROM_YEAR + nextYear;
+        nextYear = (nextYear + 1) % COLD_YEARS;
+        return calendar.calculate(year);
+    }
+
+    @Benchmark
+    public List<HolidayDate> calculateRange() {
+        return calendar.calculate(RANGE_FROM_YEAR, RANGE_TO_YEAR);
+    }
+
+    @Benchmark
+    public Map<Integer, List<HolidayDate>> calculateByYear() {
+        return calendar.calculateByYear(RANGE_FROM_YEAR, RANGE_TO_YEAR);
+    }
+
+    @Benchmark
+    public int[] calculateEpochDays() {
+        return calendar.calculateEpochDays(RANGE_FROM_YEAR, RANGE_TO_YEAR);
+    }
+
+    @Benchmark
+    public int calculateEpochDaysIntoBuffer() {
+        return calendar.calculateEpochDays(RANGE_FROM_YEAR, RANGE_TO_YEAR, epochDays, holidays);
+    }
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.HolidayCalendarService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HolidayCalendarFactory} lookups and of building a
+ * calendar through its {@link HolidayCalendarService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    @Param({"US", "EUR", "JP", "CNY", "SA", "ILS"})
+    public String code;
+
+    private HolidayCalendarFactory factory;
+    private HolidayCalendarService service;
+
+    @Setup
+    public void setup() {
+        factory = new HolidayCalendarFactory();
+        service = factory.getService(code);
+    }
+
+    @Benchmark
+    public HolidayCalendar create() {
+        return factory.create(code);
+    }
+
+    @Benchmark
+    public HolidayCalendarService getService() {
+        return factory.getService(code);
+    }
+
+    @Benchmark
+    public OptionalInt dataValidThrough() {
+        return factory.dataValidThrough(code);
+    }
+
+    @Benchmark
+    public List<String> listAvailableCodes() {
+        return factory.listAvailableCodes();
+    }
+
+    @Benchmark
+    public HolidayCalendar serviceGetHolidayCalendar() {
+        return service.getHolidayCalendar();
+    }
+
+}
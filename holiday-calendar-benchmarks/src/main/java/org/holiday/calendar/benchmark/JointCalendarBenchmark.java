@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.JointCalendarIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of settlement-date queries across several calendars with a
+ * {@link JointCalendarIndex}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JointCalendarBenchmark {
+
+    private static final long FIRST_TRADE_DAY = LocalDate.of(2026, 1, 1).toEpochDay();
+    private static final long LAST_TRADE_DAY = LocalDate.of(2035, 12, 31).toEpochDay();
+
+    @Param({"USD,EUR", "USD,EUR,JPY", "USD,EUR,JPY,GBP,CHF,CAD,AUD"})
+    public String codes;
+
+    @Param({"2", "30"})
+    public int lag;
+
+    private HolidayCalendarFactory factory;
+    private JointCalendarIndex joint;
+    private long tradeDay;
+
+    @Setup
+    public void setup() {
+        factory = new HolidayCalendarFactory();
+        joint = factory.createJointIndex(codes.split(","));
+        tradeDay = FIRST_TRADE_DAY;
+    }
+
+    @Benchmark
+    public long settlementDate() {
+        tradeDay = tradeDay < LAST_TRADE_DAY ? tradeDay + 1 : FIRST_TRADE_DAY;
+        return joint.addBusinessDays(tradeDay, lag);
+    }
+
+    @Benchmark
+    public JointCalendarIndex cachedLookup() {
+        return factory.createJointIndex(codes.split(","));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.HolidayDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HolidayCalendar#merge(HolidayCalendar)} and of
+ * calculating holidays on the merged calendar.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    @Param({"USD/EUR", "USD/JPY", "GBP/CHF", "SAR/AED"})
+    public String pair;
+
+    private HolidayCalendar first;
+    private HolidayCalendar second;
+
+    @Setup
+    public void setup() {
+        final String[] codes = pair.split("/");
+        final HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        first = factory.create(codes[0]);
+        second = factory.create(codes[1]);
+    }
+
+    @Benchmark
+    public HolidayCalendar merge() {
+        return first.merge(second);
+    }
+
+    @Benchmark
+    public List<HolidayDate> mergeAndCalculate() {
+        return first.merge(second).calculate(CalculateBenchmark.HOT_YEAR);
+    }
+
+}
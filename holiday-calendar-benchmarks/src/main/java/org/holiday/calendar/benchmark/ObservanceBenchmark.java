@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.function.Observance;
+import org.holiday.calendar.observance.hebrew.IndependenceDay;
+import org.holiday.calendar.observance.hebrew.Passover;
+import org.holiday.calendar.observance.hebrew.RoshHashanah;
+import org.holiday.calendar.observance.hebrew.Shavuot;
+import org.holiday.calendar.observance.hebrew.YomKippur;
+import org.holiday.calendar.observance.jp.AutumnalEquinoxDay;
+import org.holiday.calendar.observance.jp.VernalEquinoxDay;
+import org.holiday.calendar.observance.lunar.ChineseNewYearDay;
+import org.holiday.calendar.observance.lunar.DragonBoatFestival;
+import org.holiday.calendar.observance.lunar.MidAutumnFestival;
+import org.holiday.calendar.observance.lunar.QingmingFestival;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of the observances which compute dates via Time4J, cycling through
+ * a range of years so that no single year is favoured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObservanceBenchmark {
+
+    private static final Map<String, Supplier<Observance>> OBSERVANCES = Map.ofEntries(
+            Map.entry("ChineseNewYearDay", () -> new ChineseNewYearDay(1)),
+            Map.entry("QingmingFestival", QingmingFestival::new),
+            Map.entry("DragonBoatFestival", DragonBoatFestival::new),
+            Map.entry("MidAutumnFestival", MidAutumnFestival::new),
+            Map.entry("Passover", Passover::new),
+            Map.entry("RoshHashanah", RoshHashanah::new),
+            Map.entry("YomKippur", YomKippur::new),
+            Map.entry("Shavuot", Shavuot::new),
+            Map.entry("IndependenceDay", IndependenceDay::new),
+            Map.entry("VernalEquinoxDay", VernalEquinoxDay::new),
+            Map.entry("AutumnalEquinoxDay", AutumnalEquinoxDay::new));
+
+    @Param({"ChineseNewYearDay", "QingmingFestival", "DragonBoatFestival", "MidAutumnFestival",
+            "Passover", "RoshHashanah", "YomKippur", "Shavuot", "IndependenceDay",
+            "VernalEquinoxDay", "AutumnalEquinoxDay"})
+    public String observance;
+
+    private Observance target;
+    private int nextYear;
+
+    @Setup
+    public void setup() {
+        target = OBSERVANCES.get(observance).get();
+        nextYear = 0;
+    }
+
+    @Benchmark
+    public LocalDate apply() {
+        final int year = CalculateBenchmark.COLD_FROM_YEAR + nextYear;
+        nextYear = (nextYear + 1) % CalculateBenchmark.COLD_YEARS;
+        return target.apply(year);
+    }
+
+}
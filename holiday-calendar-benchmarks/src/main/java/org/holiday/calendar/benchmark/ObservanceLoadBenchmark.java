@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.observance.islamic.mena.EidAlFitr;
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark of loading every MENA Islamic observance table once in
+ * a fresh JVM, from the compiled {@code observances.bin} or by parsing the
+ * CSVs. A resource named by absolute path is always parsed from its CSV.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ObservanceLoadBenchmark {
+
+    private static final String PACKAGE_PATH = "/org/holiday/calendar/observance/islamic/mena/";
+
+    private static final List<String> TABLES = List.of(
+            "arafat-day-bh.csv", "arafat-day-eg.csv", "arafat-day-jo.csv", "arafat-day-kw.csv", "ashura-bh.csv",
+            "eid-al-adha-ae.csv", "eid-al-adha-bh.csv", "eid-al-adha-eg.csv", "eid-al-adha-jo.csv",
+            "eid-al-adha-kw.csv", "eid-al-adha-ma.csv", "eid-al-adha-qa.csv", "eid-al-adha-sa.csv",
+            "eid-al-adha-tr.csv", "eid-al-fitr-ae.csv", "eid-al-fitr-bh.csv", "eid-al-fitr-eg.csv",
+            "eid-al-fitr-jo.csv", "eid-al-fitr-kw.csv", "eid-al-fitr-ma.csv", "eid-al-fitr-qa.csv",
+            "eid-al-fitr-sa.csv", "eid-al-fitr-tr.csv", "islamic-new-year-ae.csv", "islamic-new-year-bh.csv",
+            "islamic-new-year-eg.csv", "islamic-new-year-jo.csv", "islamic-new-year-kw.csv",
+            "islamic-new-year-ma.csv", "islamic-new-year-sa.csv", "isra-miraj-kw.csv", "mawlid-ae.csv",
+            "mawlid-bh.csv", "mawlid-eg.csv", "mawlid-jo.csv", "mawlid-kw.csv", "mawlid-ma.csv", "mawlid-sa.csv");
+
+    @Param({"compiled", "csv"})
+    public String source;
+
+    @Benchmark
+    public int loadAll() {
+        final String prefix = source.equals("csv") ? PACKAGE_PATH : "";
+        int rows = 0;
+        for (String table : TABLES) {
+            rows += CsvObservanceLoader.loadSingle(EidAlFitr.class, prefix + table).size();
+        }
+        return rows;
+    }
+
+}
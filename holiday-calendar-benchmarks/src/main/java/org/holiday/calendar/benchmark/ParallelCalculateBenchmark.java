@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.HolidayDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link HolidayCalendar#calculate(int, int, java.util.concurrent.Executor)}
+ * over a backtest range of 1900–2100 with pools of increasing parallelism.
+ * The range is wider than the year cache, so every year is calculated from
+ * scratch on each invocation; {@code sequential} is the single-threaded
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCalculateBenchmark {
+
+    static final int FROM_YEAR = 1900;
+    static final int TO_YEAR = 2100;
+
+    @Param({"US", "UK", "JP", "CN", "IL", "SA"})
+    public String code;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private HolidayCalendar calendar;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        calendar = new HolidayCalendarFactory().create(code);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<HolidayDate> sequential() {
+        return calendar.calculate(FROM_YEAR, TO_YEAR);
+    }
+
+    @Benchmark
+    public List<HolidayDate> parallel() {
+        return calendar.calculate(FROM_YEAR, TO_YEAR, pool);
+    }
+
+}
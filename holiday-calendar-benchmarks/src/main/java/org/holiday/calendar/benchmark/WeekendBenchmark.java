@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.benchmark;
+
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of per-event weekend checks on timestamps, as made by streaming
+ * consumers. Timestamps advance by one minute per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeekendBenchmark {
+
+    private static final long FIRST_SECOND = Instant.parse("2026-01-01T00:00:00Z").getEpochSecond();
+
+    @Param({"America/New_York", "Asia/Tokyo"})
+    public String zone;
+
+    private HolidayCalendar calendar;
+    private ZoneId zoneId;
+    private long epochSecond;
+
+    @Setup
+    public void setup() {
+        calendar = new HolidayCalendarFactory().create("USD");
+        zoneId = ZoneId.of(zone);
+        epochSecond = FIRST_SECOND;
+    }
+
+    private long nextSecond() {
+        epochSecond += 60;
+        return epochSecond;
+    }
+
+    @Benchmark
+    public boolean isWeekendInstant() {
+        return calendar.isWeekend(Instant.ofEpochSecond(nextSecond()), zoneId);
+    }
+
+    @Benchmark
+    public boolean isWeekendEpochSecond() {
+        return calendar.isWeekend(nextSecond(), zoneId);
+    }
+
+    @Benchmark
+    public boolean isWeekendUTCDate() {
+        return calendar.isWeekendUTC(new Date(nextSecond() * 1000));
+    }
+
+}
@@ -25,12 +25,15 @@
  * associated functional interfaces.
  */
 module org.holiday.calendar.core {
+    requires jdk.jfr;
     requires org.slf4j;
 
     exports org.holiday.calendar;
     exports org.holiday.calendar.function;
+    exports org.holiday.calendar.metrics;
     exports org.holiday.calendar.observance;
     exports org.holiday.calendar.util;
 
     uses org.holiday.calendar.HolidayCalendarService;
+    uses org.holiday.calendar.metrics.CalendarMetrics;
 }
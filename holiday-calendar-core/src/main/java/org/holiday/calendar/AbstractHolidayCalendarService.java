@@ -18,16 +18,25 @@
 
 package org.holiday.calendar;
 
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
 /**
  * Abstract base class for {@link HolidayCalendarService} implementations,
  * providing the identity behavior common to all concrete service classes.
  *
+ * <p>Subclasses implement {@link #getHolidayCalendar()} and may delegate to
+ * {@link #buildOnce(Supplier)}, so that the holiday definitions of a service
+ * are constructed at most once per service instance.</p>
+ *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
 public abstract class AbstractHolidayCalendarService implements HolidayCalendarService {
 
     private final String code;
     private final String name;
+    private volatile HolidayCalendar holidayCalendar;
 
     protected AbstractHolidayCalendarService(String code, String name) {
         this.code = code;
@@ -49,4 +58,34 @@ public abstract class AbstractHolidayCalendarService implements HolidayCalendarS
         return name;
     }
 
+    /**
+     * Get the holiday calendar of this service, building it with
+     * {@code builder} on the first call only; the same instance is returned
+     * thereafter.
+     *
+     * @param builder builds the holiday calendar of this service
+     * @return holiday calendar object
+     */
+    protected final HolidayCalendar buildOnce(Supplier<HolidayCalendar> builder) {
+        HolidayCalendar result = holidayCalendar;
+        if (result == null) {
+            synchronized (this) {
+                result = holidayCalendar;
+                if (result == null) {
+                    final CalendarBuildEvent event = new CalendarBuildEvent();
+                    event.begin();
+                    result = requireNonNull(builder.get(), "Built holiday calendar cannot be null");
+                    if (event.shouldCommit()) {
+                        event.code = code;
+                        event.service = getClass();
+                        event.holidays = result.getHolidays().size();
+                        event.commit();
+                    }
+                    holidayCalendar = result;
+                }
+            }
+        }
+        return result;
+    }
+
 }
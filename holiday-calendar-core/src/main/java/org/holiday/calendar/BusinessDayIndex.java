@@ -0,0 +1,464 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.time.LocalDate;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Business-day arithmetic over a precomputed bitmap of business days. Each day
+ * in a window of whole years is represented by a single bit, set when the day
+ * is a business day. A cumulative count of business days per 64-day word
+ * allows the {@code n}th business day after a date, or the number of business
+ * days between two dates, to be found without scanning day by day.
+ *
+ * <p>Days outside the window are resolved individually by the concrete index.
+ * A search for a business day outside the window gives up after
+ * {@link #MAX_EMPTY_SEARCH_YEARS} years without one. Instances are immutable
+ * from the caller's perspective and thread safe.</p>
+ *
+ * @see HolidayCalendarIndex
+ * @see JointCalendarIndex
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public abstract sealed class BusinessDayIndex permits HolidayCalendarIndex, JointCalendarIndex {
+
+    static final int FULL_WEEK_MASK = 0x7F;
+
+    /**
+     * Number of consecutive years without a business day after which a search
+     * outside the window gives up. Only a calendar whose every day is a
+     * weekend, with working-day overrides in some years, can exhaust it.
+     */
+    public static final int MAX_EMPTY_SEARCH_YEARS = 100;
+
+    private static final long MAX_EMPTY_SEARCH_DAYS = 366L * MAX_EMPTY_SEARCH_YEARS;
+
+    final int fromYear;
+    final int toYear;
+    final long firstEpochDay;
+    final long lastEpochDay;
+    private final long[] businessBits;
+    private final int[] businessRank;
+
+    /**
+     * @param businessBits one bit per day of the window, set for business days;
+     *                     bit {@code i} corresponds to {@code firstEpochDay + i}
+     */
+    BusinessDayIndex(int fromYear, int toYear, long[] businessBits) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.firstEpochDay = firstEpochDay(fromYear);
+        this.lastEpochDay = lastEpochDay(toYear);
+        this.businessBits = businessBits;
+
+        // businessRank[w] holds the number of business days in words [0, w),
+        // so that rank and select over the window need only a popcount of a
+        // single word.
+        this.businessRank = new int[businessBits.length + 1];
+        for (int w = 0; w < businessBits.length; w++) {
+            businessRank[w + 1] = businessRank[w] + Long.bitCount(businessBits[w]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Accessors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the code identifying the indexed calendar or calendars.
+     *
+     * @return calendar code
+     */
+    public abstract String getCode();
+
+    /**
+     * Get the first year of the precomputed window.
+     *
+     * @return first year covered by the window (inclusive)
+     */
+    public int getFromYear() { return fromYear; }
+
+    /**
+     * Get the last year of the precomputed window.
+     *
+     * @return last year covered by the window (inclusive)
+     */
+    public int getToYear() { return toYear; }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determine if the given date is a business day.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a business day
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Determine if the given epoch day is a business day.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return {@code true} if {@code epochDay} is a business day
+     */
+    public boolean isBusinessDay(long epochDay) {
+        if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+            return testBit(businessBits, epochDay - firstEpochDay);
+        }
+        return isBusinessDayOutsideWindow(epochDay);
+    }
+
+    // -------------------------------------------------------------------------
+    // Business day arithmetic
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the first business day strictly after the given date.
+     *
+     * @param date starting date
+     * @return next business day after {@code date}
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return LocalDate.ofEpochDay(nextBusinessDay(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay()));
+    }
+
+    /**
+     * Get the first business day strictly after the given epoch day.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return epoch day of the next business day
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     */
+    public long nextBusinessDay(long epochDay) {
+        return forward(epochDay + 1, 1);
+    }
+
+    /**
+     * Get the last business day strictly before the given date.
+     *
+     * @param date starting date
+     * @return previous business day before {@code date}
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     */
+    public LocalDate previousBusinessDay(LocalDate date) {
+        return LocalDate.ofEpochDay(previousBusinessDay(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay()));
+    }
+
+    /**
+     * Get the last business day strictly before the given epoch day.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return epoch day of the previous business day
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     */
+    public long previousBusinessDay(long epochDay) {
+        return backward(epochDay - 1, 1);
+    }
+
+    /**
+     * Move the given date by a number of business days. A positive count moves
+     * forward to the {@code n}th business day after {@code date}; a negative
+     * count moves backward to the {@code |n|}th business day before it. A count
+     * of zero returns {@code date} unchanged, whether or not it is a business day.
+     *
+     * @param date starting date
+     * @param n    number of business days to move
+     * @return adjusted date
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     */
+    public LocalDate addBusinessDays(LocalDate date, int n) {
+        return LocalDate.ofEpochDay(addBusinessDays(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay(), n));
+    }
+
+    /**
+     * Move the given epoch day by a number of business days.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @param n        number of business days to move
+     * @return adjusted epoch day
+     * @throws IllegalStateException if the index has no business days, or none
+     *         within {@link #MAX_EMPTY_SEARCH_YEARS} years outside the window
+     * @see #addBusinessDays(LocalDate, int)
+     */
+    public long addBusinessDays(long epochDay, int n) {
+        if (n > 0) return forward(epochDay + 1, n);
+        if (n < 0) return backward(epochDay - 1, -(long) n);
+        return epochDay;
+    }
+
+    /**
+     * Count the business days in the half-open range {@code [from, to)}. When
+     * {@code to} is before {@code from} the count of {@code [to, from)} is
+     * returned, negated.
+     *
+     * @param from first date of the range (inclusive)
+     * @param to   last date of the range (exclusive)
+     * @return number of business days between the two dates
+     */
+    public long businessDaysBetween(LocalDate from, LocalDate to) {
+        return businessDaysBetween(requireNonNull(from, "Argument 'from' cannot be null").toEpochDay(),
+                                   requireNonNull(to, "Argument 'to' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Count the business days in the half-open range of epoch days
+     * {@code [from, to)}.
+     *
+     * @param from first epoch day of the range (inclusive)
+     * @param to   last epoch day of the range (exclusive)
+     * @return number of business days between the two epoch days
+     * @see #businessDaysBetween(LocalDate, LocalDate)
+     */
+    public long businessDaysBetween(long from, long to) {
+        return from <= to ? count(from, to) : -count(to, from);
+    }
+
+    // -------------------------------------------------------------------------
+    // Extension points
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determine if a day outside the precomputed window is a business day.
+     */
+    abstract boolean isBusinessDayOutsideWindow(long epochDay);
+
+    /**
+     * Determine if any day of the week can be a business day. Arithmetic on an
+     * index without business days would never terminate.
+     */
+    abstract boolean hasBusinessDays();
+
+    /**
+     * Get the business days {@code [epochDay, epochDay + 64)} as one word, bit
+     * {@code i} being set when {@code epochDay + i} is a business day.
+     */
+    final long businessWord(long epochDay) {
+        final long offset = epochDay - firstEpochDay;
+        if (offset >= 0 && epochDay + 63 <= lastEpochDay) {
+            final int word = (int) (offset >>> 6);
+            final int shift = (int) (offset & 63);
+            final long low = businessBits[word] >>> shift;
+            return shift == 0 ? low : low | (businessBits[word + 1] << (64 - shift));
+        }
+        long bits = 0;
+        for (int i = 0; i < 64; i++) {
+            if (isBusinessDay(epochDay + i)) bits |= 1L << i;
+        }
+        return bits;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private long count(long from, long to) {
+        long result = 0;
+        for (long day = from; day < Math.min(to, firstEpochDay); day++) {
+            if (isBusinessDay(day)) result++;
+        }
+        final long lo = Math.max(from, firstEpochDay);
+        final long hi = Math.min(to, lastEpochDay + 1);
+        if (lo < hi) {
+            result += rank(hi - firstEpochDay) - rank(lo - firstEpochDay);
+        }
+        for (long day = Math.max(from, lastEpochDay + 1); day < to; day++) {
+            if (isBusinessDay(day)) result++;
+        }
+        return result;
+    }
+
+    /**
+     * Find the {@code n}th business day on or after {@code start}.
+     */
+    private long forward(long start, long n) {
+        requireBusinessDays();
+        long day = start;
+        long empty = 0;
+        for (; day < firstEpochDay; day++) {
+            if (!isBusinessDay(day)) {
+                if (++empty > MAX_EMPTY_SEARCH_DAYS) throw noBusinessDay(start, "after");
+            } else if (--n == 0) {
+                return day;
+            } else {
+                empty = 0;
+            }
+        }
+        if (day <= lastEpochDay) {
+            final long before = rank(day - firstEpochDay);
+            final long target = before + n - 1;
+            if (target < totalBusinessDays()) {
+                return firstEpochDay + select(target);
+            }
+            n -= totalBusinessDays() - before;
+            day = lastEpochDay + 1;
+            empty = 0;
+        }
+        for (;; day++) {
+            if (!isBusinessDay(day)) {
+                if (++empty > MAX_EMPTY_SEARCH_DAYS) throw noBusinessDay(start, "after");
+            } else if (--n == 0) {
+                return day;
+            } else {
+                empty = 0;
+            }
+        }
+    }
+
+    /**
+     * Find the {@code n}th business day on or before {@code end}.
+     */
+    private long backward(long end, long n) {
+        requireBusinessDays();
+        long day = end;
+        long empty = 0;
+        for (; day > lastEpochDay; day--) {
+            if (!isBusinessDay(day)) {
+                if (++empty > MAX_EMPTY_SEARCH_DAYS) throw noBusinessDay(end, "before");
+            } else if (--n == 0) {
+                return day;
+            } else {
+                empty = 0;
+            }
+        }
+        if (day >= firstEpochDay) {
+            final long upTo = rank(day - firstEpochDay + 1);
+            final long target = upTo - n;
+            if (target >= 0) {
+                return firstEpochDay + select(target);
+            }
+            n -= upTo;
+            day = firstEpochDay - 1;
+            empty = 0;
+        }
+        for (;; day--) {
+            if (!isBusinessDay(day)) {
+                if (++empty > MAX_EMPTY_SEARCH_DAYS) throw noBusinessDay(end, "before");
+            } else if (--n == 0) {
+                return day;
+            } else {
+                empty = 0;
+            }
+        }
+    }
+
+    private IllegalStateException noBusinessDay(long epochDay, String direction) {
+        return new IllegalStateException("Calendar '" + getCode() + "' has no business day within "
+            + MAX_EMPTY_SEARCH_YEARS + " years " + direction + " " + LocalDate.ofEpochDay(epochDay));
+    }
+
+    private void requireBusinessDays() {
+        if (!hasBusinessDays()) {
+            throw new IllegalStateException("Calendar '" + getCode() + "' has no business days");
+        }
+    }
+
+    private long totalBusinessDays() {
+        return businessRank[businessBits.length];
+    }
+
+    /**
+     * Number of business days at window offsets {@code [0, offset)}.
+     */
+    private long rank(long offset) {
+        final int word = (int) (offset >>> 6);
+        final long partial = word < businessBits.length
+            ? Long.bitCount(businessBits[word] & ((1L << offset) - 1))
+            : 0;
+        return businessRank[word] + partial;
+    }
+
+    /**
+     * Window offset of the business day with zero-based rank {@code k}.
+     */
+    private long select(long k) {
+        int lo = 0;
+        int hi = businessBits.length - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (businessRank[mid] <= k) lo = mid; else hi = mid - 1;
+        }
+        long word = businessBits[lo];
+        for (long i = k - businessRank[lo]; i > 0; i--) {
+            word &= word - 1;
+        }
+        return ((long) lo << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    static long firstEpochDay(int fromYear) {
+        return LocalDate.of(fromYear, 1, 1).toEpochDay();
+    }
+
+    static long lastEpochDay(int toYear) {
+        return LocalDate.of(toYear, 12, 31).toEpochDay();
+    }
+
+    /**
+     * Year containing the given epoch day, found without allocating a
+     * {@link LocalDate}.
+     *
+     * @throws java.time.DateTimeException if {@code epochDay} is out of range
+     */
+    static int yearOf(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        // 146097 days per 400 Gregorian years; the estimate is off by at most one
+        int year = (int) Math.floorDiv(epochDay * 400, 146097L) + 1970;
+        while (startOfYear(year) > epochDay) year--;
+        while (startOfYear(year + 1) <= epochDay) year++;
+        return year;
+    }
+
+    /**
+     * Epoch day of 1 January of the given year, without range checks.
+     */
+    static long startOfYear(int year) {
+        final long y = year - 1L;
+        // 477 leap days fall between year 1 and 1969 inclusive
+        return 365 * (y - 1969) + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400) - 477;
+    }
+
+    static int windowWordCount(int fromYear, int toYear) {
+        return wordCount(lastEpochDay(toYear) - firstEpochDay(fromYear) + 1);
+    }
+
+    static int wordCount(long bitCount) {
+        return (int) ((bitCount + 63) >>> 6);
+    }
+
+    static void setBit(long[] bits, long index) {
+        bits[(int) (index >>> 6)] |= 1L << index;
+    }
+
+    static boolean testBit(long[] bits, long index) {
+        return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for {@link HolidayCalendar#calculate(int)}, including
+ * calls answered from the year cache. Only calls taking at least a millisecond
+ * are recorded by default, so that cached lookups on hot paths do not flood
+ * a continuous recording.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@Name("org.holiday.calendar.Calculate")
+@Label("Holiday Calculation")
+@Category("Holiday Calendar")
+@Description("Calculation of the observed holidays of a calendar for one year")
+@Threshold("1 ms")
+@StackTrace(false)
+final class CalculateEvent extends jdk.jfr.Event {
+
+    @Label("Calendar Code")
+    String code;
+
+    @Label("Year")
+    int year;
+
+    @Label("Holidays")
+    @Description("Number of observed holiday dates calculated")
+    int holidays;
+
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the one-off construction of the calendar of an
+ * {@link AbstractHolidayCalendarService}.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@Name("org.holiday.calendar.CalendarBuild")
+@Label("Holiday Calendar Build")
+@Category("Holiday Calendar")
+@Description("Construction of the holiday calendar provided by a service")
+final class CalendarBuildEvent extends jdk.jfr.Event {
+
+    @Label("Calendar Code")
+    String code;
+
+    @Label("Service Class")
+    Class<?> service;
+
+    @Label("Holidays")
+    @Description("Number of holidays defined by the calendar")
+    int holidays;
+
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.holiday.calendar.function.DateRoll;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Frozen, flat-array form of the holidays of a {@link HolidayCalendar},
+ * partitioned by {@link Holiday.Type type}, from which the observed dates of a
+ * year are generated without hashing or a general sort.
+ *
+ * <ul>
+ *   <li>{@link FixedHoliday Fixed} holidays are held in month-day order, so
+ *   their dates for any year are already sorted.</li>
+ *   <li>{@link SpecialAnniversary Special anniversaries} are held in date
+ *   order and located by year with a binary search.</li>
+ *   <li>{@link FloatingHoliday Floating} holidays are held as an array of
+ *   observances, whose few dates are sorted per year.</li>
+ * </ul>
+ *
+ * <p>The three sorted runs are merged. Rolling a weekend date to its observed
+ * date moves it by a few days at most, so each run is first restored to
+ * order with an insertion sort, which does no work for dates that did not
+ * move. Equal dates are ordered by the position of their holidays in the
+ * calendar's holiday set, exactly as a stable sort of that set's dates would
+ * order them.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class CompiledHolidays {
+
+    private final Holiday[] fixed;
+    private final int[] fixedMonths;
+    private final int[] fixedDays;
+    private final int[] fixedRanks;
+
+    private final FloatingHoliday[] floating;
+    private final int[] floatingRanks;
+
+    private final SpecialAnniversary[] anniversaries;
+    private final int[] anniversaryYears;
+    private final int[] anniversaryRanks;
+
+    private final int size;
+    private final Set<String> dataResources;
+
+    private CompiledHolidays(List<Ranked<FixedHoliday>> fixed,
+                             List<Ranked<FloatingHoliday>> floating,
+                             List<Ranked<SpecialAnniversary>> anniversaries) {
+        fixed.sort(Comparator.<Ranked<FixedHoliday>, MonthDay>comparing(r -> r.holiday().getMonthDay())
+                       .thenComparingInt(Ranked::rank));
+        this.fixed = fixed.stream().map(Ranked::holiday).toArray(Holiday[]::new);
+        this.fixedMonths = fixed.stream().mapToInt(r -> r.holiday().getMonth().getValue()).toArray();
+        this.fixedDays = fixed.stream().mapToInt(r -> r.holiday().getDayOfMonth()).toArray();
+        this.fixedRanks = fixed.stream().mapToInt(Ranked::rank).toArray();
+
+        this.floating = floating.stream().map(Ranked::holiday).toArray(FloatingHoliday[]::new);
+        this.floatingRanks = floating.stream().mapToInt(Ranked::rank).toArray();
+
+        anniversaries.sort(Comparator.<Ranked<SpecialAnniversary>, LocalDate>comparing(r -> r.holiday().getAnniversaryDate())
+                               .thenComparingInt(Ranked::rank));
+        this.anniversaries = anniversaries.stream().map(Ranked::holiday).toArray(SpecialAnniversary[]::new);
+        this.anniversaryYears = anniversaries.stream().mapToInt(r -> r.holiday().getYear()).toArray();
+        this.anniversaryRanks = anniversaries.stream().mapToInt(Ranked::rank).toArray();
+
+        this.size = this.fixed.length + this.floating.length + this.anniversaries.length;
+
+        final Set<String> resources = new TreeSet<>();
+        for (FloatingHoliday holiday : this.floating) {
+            resources.addAll(holiday.getObservance().dataResources());
+        }
+        this.dataResources = Set.copyOf(resources);
+    }
+
+    private record Ranked<H extends Holiday>(H holiday, int rank) {}
+
+    /**
+     * Compile the given holidays. The rank of each holiday, which orders
+     * holidays observed on the same date, is its position in {@code holidays}.
+     *
+     * @param holidays holidays of a calendar, in iteration order
+     * @return compiled holidays
+     */
+    static CompiledHolidays compile(Collection<Holiday> holidays) {
+        final List<Ranked<FixedHoliday>> fixed = new ArrayList<>();
+        final List<Ranked<FloatingHoliday>> floating = new ArrayList<>();
+        final List<Ranked<SpecialAnniversary>> anniversaries = new ArrayList<>();
+        int rank = 0;
+        for (Holiday holiday : holidays) {
+            switch (holiday) {
+                case FixedHoliday h -> fixed.add(new Ranked<>(h, rank));
+                case FloatingHoliday h -> floating.add(new Ranked<>(h, rank));
+                case SpecialAnniversary h -> anniversaries.add(new Ranked<>(h, rank));
+            }
+            rank++;
+        }
+        return new CompiledHolidays(fixed, floating, anniversaries);
+    }
+
+    /**
+     * Names of the reloadable data resources read by the floating holidays.
+     */
+    Set<String> dataResources() {
+        return dataResources;
+    }
+
+    /**
+     * Generate the observed dates of the holidays for a year.
+     *
+     * @param year        year for which to generate dates
+     * @param weekendMask weekend days of the calendar, one bit per
+     *                    {@link java.time.DayOfWeek#ordinal() day of week}
+     * @param dateRoll    date rolling behavior of the calendar
+     * @return unmodifiable chronologically-sorted list of observed holiday dates
+     */
+    List<HolidayDate> datesForYear(int year, int weekendMask, DateRoll dateRoll) {
+        if (size == 0) return List.of();
+
+        // Three runs in one set of parallel arrays: fixed, anniversaries, floating
+        final LocalDate[] dates = new LocalDate[size];
+        final Holiday[] holidays = new Holiday[size];
+        final int[] ranks = new int[size];
+        int n = 0;
+
+        for (int i = 0; i < fixed.length; i++) {
+            n = add(dates, holidays, ranks, n, fixed[i], fixedRanks[i],
+                    LocalDate.of(year, fixedMonths[i], fixedDays[i]), weekendMask, dateRoll);
+        }
+        final int fixedEnd = n;
+
+        int first = Arrays.binarySearch(anniversaryYears, year);
+        if (first >= 0) {
+            while (first > 0 && anniversaryYears[first - 1] == year) first--;
+            for (int i = first; i < anniversaries.length && anniversaryYears[i] == year; i++) {
+                n = add(dates, holidays, ranks, n, anniversaries[i], anniversaryRanks[i],
+                        anniversaries[i].getAnniversaryDate(), weekendMask, dateRoll);
+            }
+        }
+        final int anniversariesEnd = n;
+
+        for (int i = 0; i < floating.length; i++) {
+            final LocalDate date = floating[i].getObservance().apply(year);
+            if (date != null) {
+                n = add(dates, holidays, ranks, n, floating[i], floatingRanks[i], date, weekendMask, dateRoll);
+            }
+        }
+
+        insertionSort(dates, holidays, ranks, 0, fixedEnd);
+        insertionSort(dates, holidays, ranks, fixedEnd, anniversariesEnd);
+        insertionSort(dates, holidays, ranks, anniversariesEnd, n);
+        return merge(dates, holidays, ranks, fixedEnd, anniversariesEnd, n);
+    }
+
+    private static int add(LocalDate[] dates, Holiday[] holidays, int[] ranks, int n,
+                           Holiday holiday, int rank, LocalDate date, int weekendMask, DateRoll dateRoll) {
+        dates[n] = holiday.isRollable() && (weekendMask & (1 << date.getDayOfWeek().ordinal())) != 0
+            ? dateRoll.rollToObservedDate(date)
+            : date;
+        holidays[n] = holiday;
+        ranks[n] = rank;
+        return n + 1;
+    }
+
+    private static int compare(LocalDate[] dates, int[] ranks, int i, int j) {
+        final int byDate = dates[i].compareTo(dates[j]);
+        return byDate != 0 ? byDate : Integer.compare(ranks[i], ranks[j]);
+    }
+
+    private static void insertionSort(LocalDate[] dates, Holiday[] holidays, int[] ranks, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && compare(dates, ranks, j - 1, j) > 0; j--) {
+                final LocalDate date = dates[j];
+                dates[j] = dates[j - 1];
+                dates[j - 1] = date;
+                final Holiday holiday = holidays[j];
+                holidays[j] = holidays[j - 1];
+                holidays[j - 1] = holiday;
+                final int rank = ranks[j];
+                ranks[j] = ranks[j - 1];
+                ranks[j - 1] = rank;
+            }
+        }
+    }
+
+    /**
+     * Merge the sorted runs {@code [0, a)}, {@code [a, b)} and {@code [b, n)}.
+     */
+    private static List<HolidayDate> merge(LocalDate[] dates, Holiday[] holidays, int[] ranks, int a, int b, int n) {
+        final HolidayDate[] merged = new HolidayDate[n];
+        int i = 0;
+        int j = a;
+        int k = b;
+        for (int out = 0; out < n; out++) {
+            final int next;
+            if (i < a && (j >= b || compare(dates, ranks, i, j) < 0)) {
+                next = k < n && compare(dates, ranks, k, i) < 0 ? k++ : i++;
+            } else if (j < b) {
+                next = k < n && compare(dates, ranks, k, j) < 0 ? k++ : j++;
+            } else {
+                next = k++;
+            }
+            merged[out] = new HolidayDate(holidays[next], dates[next]);
+        }
+        return List.of(merged);
+    }
+
+}
@@ -19,11 +19,18 @@
 package org.holiday.calendar;
 
 import org.holiday.calendar.function.DateRoll;
+import org.holiday.calendar.function.WorkingDays;
+import org.holiday.calendar.metrics.Instrumentation;
 
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +48,24 @@ public class HolidayCalendar {
      */
     public static final DateRoll NO_ROLL = dateToRoll -> dateToRoll;
 
+    /**
+     * Default number of years for which {@link #calculate(int)} results are
+     * cached by each calendar.
+     */
+    public static final int DEFAULT_YEAR_CACHE_SIZE = 16;
+
+    /**
+     * Number of consecutive years calculated by each task of a parallel
+     * calculation (see {@link #calculate(int, int, Executor)}).
+     */
+    public static final int PARALLEL_BLOCK_YEARS = 8;
+
+    /**
+     * Number of consecutive years without any holiday after which an
+     * unbounded {@link #stream(LocalDate) stream} ends.
+     */
+    public static final int MAX_EMPTY_STREAM_YEARS = 100;
+
     /**
      * Default {@link DayOfWeek days of week} that constitute the 'standard'
      * weekend worldwide.
@@ -52,7 +77,18 @@ public class HolidayCalendar {
     private final String name;
     private final DateRoll dateRoll;
     private final Set<DayOfWeek> weekendDays;
+    private final int weekendMask;
     private final Set<Holiday> holidays;
+    private final CompiledHolidays compiled;
+    private final WorkingDays workingDays;
+    private final Set<String> dataResources;
+    private final int indexFromYear;
+    private final int indexToYear;
+    private final int dataValidThrough;
+    private final YearCache<List<HolidayDate>> yearCache;
+
+    private volatile HolidayCalendarIndex index;
+    private volatile boolean registered;
 
     /**
      * Construct a new holiday calendar object.
@@ -68,23 +104,80 @@ public class HolidayCalendar {
                            DateRoll dateRoll,
                            Set<DayOfWeek> weekendDays,
                            Set<Holiday> holidays) {
+        this(code, name, dateRoll, weekendDays, holidays, null, null, Year.MAX_VALUE, DEFAULT_YEAR_CACHE_SIZE);
+    }
+
+    private HolidayCalendar(String code,
+                            String name,
+                            DateRoll dateRoll,
+                            Set<DayOfWeek> weekendDays,
+                            Set<Holiday> holidays,
+                            WorkingDays workingDays,
+                            int[] indexWindow,
+                            int dataValidThrough,
+                            int yearCacheSize) {
         this.code = requireNonNull(code, "Argument 'code' cannot be null");
         this.name = requireNonNull(name, "Argument 'name' cannot be null");
         this.dateRoll = dateRoll != null ? dateRoll : NO_ROLL;
 
-        Set<DayOfWeek> wd = new HashSet<>();
+        Set<DayOfWeek> wd = EnumSet.noneOf(DayOfWeek.class);
         if (weekendDays == null || weekendDays.isEmpty()) {
             wd.addAll(STANDARD_WEEKEND);
         } else {
             weekendDays.stream().filter(Objects::nonNull).forEach(wd::add);
         }
         this.weekendDays = Collections.unmodifiableSet(wd);
+        int mask = 0;
+        for (DayOfWeek day : wd) {
+            mask |= 1 << day.ordinal();
+        }
+        this.weekendMask = mask;
 
         Set<Holiday> h = new HashSet<>();
         if (holidays != null) {
             holidays.stream().filter(Objects::nonNull).forEach(h::add);
         }
         this.holidays = Collections.unmodifiableSet(h);
+        this.compiled = CompiledHolidays.compile(this.holidays);
+        this.workingDays = workingDays;
+        if (workingDays == null || workingDays.dataResources().isEmpty()) {
+            this.dataResources = compiled.dataResources();
+        } else {
+            final Set<String> resources = new TreeSet<>(compiled.dataResources());
+            resources.addAll(workingDays.dataResources());
+            this.dataResources = Collections.unmodifiableSet(resources);
+        }
+
+        if (indexWindow != null) {
+            this.indexFromYear = indexWindow[0];
+            this.indexToYear = indexWindow[1];
+        } else {
+            final int currentYear = Year.now().getValue();
+            this.indexToYear = Math.min(currentYear + HolidayCalendarIndex.DEFAULT_YEARS_AFTER, dataValidThrough);
+            this.indexFromYear = Math.min(currentYear - HolidayCalendarIndex.DEFAULT_YEARS_BEFORE, indexToYear);
+        }
+        this.dataValidThrough = dataValidThrough;
+        this.yearCache = new YearCache<>(yearCacheSize);
+    }
+
+    /**
+     * Construct a new holiday calendar object having the same code, name,
+     * date rolling behavior, weekend days, holidays, working-day overrides,
+     * index window and year cache size as the given calendar. Cached results and the index are not
+     * shared. Intended for subclasses which refine holiday calculation.
+     *
+     * @param other holiday calendar to be copied
+     */
+    protected HolidayCalendar(HolidayCalendar other) {
+        this(requireNonNull(other, "Argument 'other' cannot be null").code,
+             other.name,
+             other.dateRoll,
+             other.weekendDays,
+             other.holidays,
+             other.workingDays,
+             new int[] {other.indexFromYear, other.indexToYear},
+             other.dataValidThrough,
+             other.yearCache.capacity());
     }
 
     // -------------------------------------------------------------------------
@@ -101,6 +194,10 @@ public class HolidayCalendar {
         private DateRoll dateRoll;
         private final Set<DayOfWeek> weekendDays = new HashSet<>();
         private final Set<Holiday> holidays = new HashSet<>();
+        private WorkingDays workingDays;
+        private int[] indexWindow;
+        private int dataValidThrough = Year.MAX_VALUE;
+        private int yearCacheSize = DEFAULT_YEAR_CACHE_SIZE;
 
         HolidayCalendarBuilder() {}
 
@@ -149,8 +246,78 @@ public class HolidayCalendar {
             return this;
         }
 
+        /**
+         * Set the weekend days which are worked, and so are business days
+         * unless a holiday is observed on them.
+         *
+         * @param workingDays working-day overrides by year, or {@code null}
+         *                    for none
+         * @return this builder
+         * @see HolidayCalendar#getWorkingDayOverrides(int)
+         */
+        public HolidayCalendarBuilder workingDays(WorkingDays workingDays) {
+            this.workingDays = workingDays;
+            return this;
+        }
+
+        /**
+         * Set the window of years precomputed by the calendar's
+         * {@link HolidayCalendar#getIndex() index}. When not set, the window
+         * defaults to {@value HolidayCalendarIndex#DEFAULT_YEARS_BEFORE} years
+         * before through {@value HolidayCalendarIndex#DEFAULT_YEARS_AFTER} years
+         * after the current year, ending no later than the
+         * {@link #dataValidThrough(int) data ceiling}.
+         *
+         * @param fromYear first year in the window (inclusive)
+         * @param toYear   last year in the window (inclusive)
+         * @return this builder
+         * @throws IllegalArgumentException if {@code fromYear > toYear}
+         */
+        public HolidayCalendarBuilder indexWindow(int fromYear, int toYear) {
+            if (fromYear > toYear) {
+                throw new IllegalArgumentException(
+                    "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+            }
+            this.indexWindow = new int[] {fromYear, toYear};
+            return this;
+        }
+
+        /**
+         * Set the last year for which the observance data read by the
+         * calendar's holidays is published. The default
+         * {@link #indexWindow(int, int) index window} ends no later than this
+         * year, so building the index does not calculate years without data.
+         *
+         * @param lastYear last year covered by the calendar's data
+         * @return this builder
+         * @see HolidayCalendarService#dataValidThrough()
+         */
+        public HolidayCalendarBuilder dataValidThrough(int lastYear) {
+            this.dataValidThrough = lastYear;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of years for which {@link HolidayCalendar#calculate(int)}
+         * results are cached; once the cache is full, a year which has not
+         * been used recently is evicted. Defaults to
+         * {@value HolidayCalendar#DEFAULT_YEAR_CACHE_SIZE}; zero disables caching.
+         *
+         * @param yearCacheSize maximum number of cached years
+         * @return this builder
+         * @throws IllegalArgumentException if {@code yearCacheSize} is negative
+         */
+        public HolidayCalendarBuilder yearCacheSize(int yearCacheSize) {
+            if (yearCacheSize < 0) {
+                throw new IllegalArgumentException("yearCacheSize (" + yearCacheSize + ") must not be negative");
+            }
+            this.yearCacheSize = yearCacheSize;
+            return this;
+        }
+
         public HolidayCalendar build() {
-            return new HolidayCalendar(code, name, dateRoll, weekendDays, holidays);
+            return new HolidayCalendar(code, name, dateRoll, weekendDays, holidays, workingDays, indexWindow,
+                                       dataValidThrough, yearCacheSize);
         }
     }
 
@@ -171,6 +338,54 @@ public class HolidayCalendar {
      */
     public Set<Holiday> getHolidays() { return holidays; }
 
+    /**
+     * Get the names of the reloadable observance data resources read by the
+     * holidays and working-day overrides of this calendar. When one of them is reloaded with changed
+     * data, the affected years are discarded from this calendar's cached
+     * results and index and recalculated on next use.
+     *
+     * @return unmodifiable set of resource names, empty if no holiday reads
+     *         reloadable data
+     * @see org.holiday.calendar.util.ObservanceDataDirectory
+     */
+    public Set<String> getDataResources() { return dataResources; }
+
+    /**
+     * Get the working-day overrides of the given year: weekend days on which
+     * business is conducted, as supplied to
+     * {@link HolidayCalendarBuilder#workingDays(WorkingDays)}. Dates outside
+     * the year or not on a weekend day are excluded. A holiday observed on
+     * one of these dates still makes it a non-business day.
+     *
+     * @param year calendar year
+     * @return unmodifiable list of dates in ascending order, empty if this
+     *         calendar has no overrides in {@code year}
+     * @see #isWorkingDayOverride(LocalDate)
+     */
+    public List<LocalDate> getWorkingDayOverrides(int year) {
+        if (workingDays == null) return List.of();
+        final Collection<LocalDate> dates = workingDays.forYear(year);
+        if (dates == null || dates.isEmpty()) return List.of();
+        return dates.stream()
+            .filter(Objects::nonNull)
+            .filter(date -> date.getYear() == year && isWeekend(date.toEpochDay()))
+            .distinct()
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Determine whether this calendar has any
+     * {@link #getWorkingDayOverrides(int) working-day overrides}.
+     */
+    boolean hasWorkingDays() { return workingDays != null; }
+
+    /**
+     * Last year covered by the observance data read by this calendar's
+     * holidays, {@link Year#MAX_VALUE} when unbounded.
+     */
+    int dataValidThrough() { return dataValidThrough; }
+
     /**
      * Get weekend days recognized by this calendar.
      *
@@ -178,19 +393,213 @@ public class HolidayCalendar {
      */
     public Set<DayOfWeek> getWeekendDays() { return weekendDays; }
 
+    /**
+     * Weekend days as a bit mask, bit {@link DayOfWeek#ordinal()} being set
+     * for each weekend day.
+     */
+    int weekendMask() { return weekendMask; }
+
+    /**
+     * Get the precomputed day-level index of this calendar, building it on
+     * first use. The index covers the window of years configured via
+     * {@link HolidayCalendarBuilder#indexWindow(int, int)}; days outside the
+     * window are materialized lazily one year at a time.
+     *
+     * @return holiday calendar index
+     */
+    public HolidayCalendarIndex getIndex() {
+        HolidayCalendarIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    register();
+                    result = HolidayCalendarIndex.of(this, indexFromYear, indexToYear);
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Index of this calendar if built and not discarded, else {@code null}.
+     */
+    HolidayCalendarIndex currentIndex() { return index; }
+
+    /**
+     * Register this calendar for invalidation by reloads of its data
+     * resources. Called before a result is first cached rather than on
+     * construction, so the registry never holds a partly constructed calendar.
+     */
+    private void register() {
+        if (!registered && !dataResources.isEmpty()) {
+            ReloadableCalendars.register(this, dataResources);
+            registered = true;
+        }
+    }
+
+    /**
+     * Discard the cached results for the given years, and the parts of the
+     * index which depend on them, after the data of a
+     * {@link #getDataResources() reloadable resource} has changed.
+     *
+     * @param years years whose holiday dates may have changed
+     */
+    void invalidate(Collection<Integer> years) {
+        yearCache.invalidate(years);
+        synchronized (this) {
+            final HolidayCalendarIndex current = index;
+            if (current == null) return;
+            final boolean inWindow = years.stream()
+                .anyMatch(year -> year >= indexFromYear - 1 && year <= indexToYear + 1);
+            if (inWindow) {
+                index = null;
+            } else {
+                current.invalidate(years);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Business day detection
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determine if a holiday is observed on the given date.
+     *
+     * @param date date to test
+     * @return {@code true} if a holiday of this calendar is observed on {@code date}
+     * @see #getIndex()
+     */
+    public boolean isHoliday(final LocalDate date) {
+        return getIndex().isHoliday(date);
+    }
+
+    /**
+     * Determine if the given date falls on the weekend as defined by this
+     * holiday calendar.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a weekend day
+     */
+    public boolean isWeekend(final LocalDate date) {
+        return isWeekend(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Determine if the given epoch day falls on the weekend as defined by this
+     * holiday calendar. The day of week is derived arithmetically, without
+     * allocation.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return {@code true} if {@code epochDay} is a weekend day
+     */
+    public boolean isWeekend(final long epochDay) {
+        return (weekendMask & (1 << HolidayCalendarIndex.dayOfWeekIndex(epochDay))) != 0;
+    }
+
+    /**
+     * Determine if the given date is a weekend day which is worked on this
+     * calendar.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a working-day override
+     * @see #getWorkingDayOverrides(int)
+     */
+    public boolean isWorkingDayOverride(final LocalDate date) {
+        return getIndex().isWorkingDayOverride(date);
+    }
+
+    /**
+     * Determine if the given date is a business day: a day on which no holiday
+     * is observed and which is either not a weekend day or a
+     * {@link #isWorkingDayOverride(LocalDate) working-day override}.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a business day
+     * @see #getIndex()
+     */
+    public boolean isBusinessDay(final LocalDate date) {
+        return getIndex().isBusinessDay(date);
+    }
+
+    // -------------------------------------------------------------------------
+    // Business day arithmetic
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the first business day strictly after the given date.
+     *
+     * @param date starting date
+     * @return next business day after {@code date}
+     * @see HolidayCalendarIndex#nextBusinessDay(LocalDate)
+     */
+    public LocalDate nextBusinessDay(final LocalDate date) {
+        return getIndex().nextBusinessDay(date);
+    }
+
+    /**
+     * Get the last business day strictly before the given date.
+     *
+     * @param date starting date
+     * @return previous business day before {@code date}
+     * @see HolidayCalendarIndex#previousBusinessDay(LocalDate)
+     */
+    public LocalDate previousBusinessDay(final LocalDate date) {
+        return getIndex().previousBusinessDay(date);
+    }
+
+    /**
+     * Move the given date forward (positive {@code n}) or backward (negative
+     * {@code n}) by a number of business days.
+     *
+     * @param date starting date
+     * @param n    number of business days to move
+     * @return adjusted date; {@code date} itself if {@code n} is zero
+     * @see HolidayCalendarIndex#addBusinessDays(LocalDate, int)
+     */
+    public LocalDate addBusinessDays(final LocalDate date, final int n) {
+        return getIndex().addBusinessDays(date, n);
+    }
+
+    /**
+     * Count the business days in the half-open range {@code [from, to)}.
+     *
+     * @param from first date of the range (inclusive)
+     * @param to   last date of the range (exclusive)
+     * @return number of business days; negative if {@code to} is before {@code from}
+     * @see HolidayCalendarIndex#businessDaysBetween(LocalDate, LocalDate)
+     */
+    public long businessDaysBetween(final LocalDate from, final LocalDate to) {
+        return getIndex().businessDaysBetween(from, to);
+    }
+
     // -------------------------------------------------------------------------
     // Weekend detection
     // -------------------------------------------------------------------------
 
+    // Weekend checks on instants are made per event by streaming consumers, so
+    // they avoid ZonedDateTime and cache zone offsets (see ZoneOffsets).
+
     /**
      * Determine if the given instant, in the specified time zone, falls on
      * the weekend as defined by this holiday calendar.
      */
     public boolean isWeekend(final Instant instant, final ZoneId zoneId) {
-        final DayOfWeek weekDay = requireNonNull(instant, "Argument 'instant' cannot be null")
-                                  .atZone(requireNonNull(zoneId, "Argument 'zoneId' cannot be null"))
-                                  .getDayOfWeek();
-        return weekendDays.contains(weekDay);
+        return isWeekend(requireNonNull(instant, "Argument 'instant' cannot be null").getEpochSecond(), zoneId);
+    }
+
+    /**
+     * Determine if the given epoch second, in the specified time zone, falls
+     * on the weekend as defined by this holiday calendar.
+     *
+     * @param epochSecond seconds from 1970-01-01T00:00:00Z ({@link Instant#getEpochSecond()})
+     * @param zoneId      time zone in which the weekend is observed
+     * @return {@code true} if {@code epochSecond} falls on a weekend day in {@code zoneId}
+     */
+    public boolean isWeekend(final long epochSecond, final ZoneId zoneId) {
+        return isWeekend(ZoneOffsets.epochDay(epochSecond, requireNonNull(zoneId, "Argument 'zoneId' cannot be null")));
     }
 
     /**
@@ -198,7 +607,18 @@ public class HolidayCalendar {
      * the weekend as defined by this holiday calendar.
      */
     public boolean isWeekendUTC(final Instant instant) {
-        return isWeekend(instant, ZoneOffset.UTC.normalized());
+        return isWeekendUTC(requireNonNull(instant, "Argument 'instant' cannot be null").getEpochSecond());
+    }
+
+    /**
+     * Determine if the given epoch second, in UTC standard time, falls on the
+     * weekend as defined by this holiday calendar.
+     *
+     * @param epochSecond seconds from 1970-01-01T00:00:00Z ({@link Instant#getEpochSecond()})
+     * @return {@code true} if {@code epochSecond} falls on a weekend day in UTC
+     */
+    public boolean isWeekendUTC(final long epochSecond) {
+        return isWeekend(ZoneOffsets.epochDayUTC(epochSecond));
     }
 
     /**
@@ -215,7 +635,7 @@ public class HolidayCalendar {
      * as defined by this holiday calendar.
      */
     public boolean isWeekendUTC(final Date date) {
-        return isWeekend(date, TimeZone.getTimeZone(ZoneOffset.UTC.normalized()));
+        return isWeekendUTC(Math.floorDiv(requireNonNull(date, "Argument 'date' cannot be null").getTime(), 1000L));
     }
 
     // -------------------------------------------------------------------------
@@ -227,21 +647,48 @@ public class HolidayCalendar {
      * year. The {@link HolidayDate dates} returned by this method are
      * adjusted according to the date rolling behavior of this calendar.
      *
+     * <p>Results are cached per year (see
+     * {@link HolidayCalendarBuilder#yearCacheSize(int)}); repeated calls for a
+     * cached year return the same immutable list.</p>
+     *
+     * <p>Subclasses should refine holiday calculation by overriding
+     * {@link #calculateYear(int)}. Overriding this method remains supported,
+     * but an override which does not delegate to it bypasses the year cache
+     * and calculation metrics.</p>
+     *
      * @param year Common Era (CE) year for which to obtain holiday dates
-     * @return chronologically-sorted list of observed holiday dates
+     * @return unmodifiable chronologically-sorted list of observed holiday dates
      */
     public List<HolidayDate> calculate(int year) {
-        return holidays.stream()
-            .<HolidayDate>mapMulti((holiday, sink) ->
-                holiday.dateForYear(year).ifPresent(date -> {
-                    LocalDate observed = holiday.isRollable() && weekendDays.contains(date.getDayOfWeek())
-                        ? dateRoll.rollToObservedDate(date)
-                        : date;
-                    sink.accept(new HolidayDate(holiday, observed));
-                })
-            )
-            .sorted(Comparator.comparing(HolidayDate::getDate))
-            .toList();
+        final CalculateEvent event = new CalculateEvent();
+        event.begin();
+        final long start = Instrumentation.isEnabled() ? System.nanoTime() : 0L;
+        register();
+        final List<HolidayDate> dates = yearCache.get(year, this::calculateYear);
+        if (Instrumentation.isEnabled()) {
+            Instrumentation.metrics().calculated(code, year, dates.size(), System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.code = code;
+            event.year = year;
+            event.holidays = dates.size();
+            event.commit();
+        }
+        return dates;
+    }
+
+    /**
+     * Compute the dates of the holidays on this calendar for the specified
+     * year, bypassing the year cache. Subclasses which refine holiday
+     * calculation override this method; the result must be an unmodifiable,
+     * chronologically-sorted list and must depend only on {@code year}.
+     *
+     * @param year Common Era (CE) year for which to obtain holiday dates
+     * @return unmodifiable chronologically-sorted list of observed holiday dates
+     * @see #calculate(int)
+     */
+    protected List<HolidayDate> calculateYear(int year) {
+        return compiled.datesForYear(year, weekendMask, dateRoll);
     }
 
     /**
@@ -312,6 +759,261 @@ public class HolidayCalendar {
             ));
     }
 
+    // -------------------------------------------------------------------------
+    // Parallel holiday calculation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Calculate the dates of the holidays on this calendar for each year in
+     * the specified range, computing blocks of consecutive years concurrently
+     * on the given executor. The result holds the same dates in the same order
+     * as {@link #calculate(int, int)}.
+     *
+     * <p>Years are calculated independently of one another, so this is worth
+     * while for wide ranges whose years are not already cached. The calling
+     * thread waits for every block to complete.</p>
+     *
+     * @param fromYear first Common Era (CE) year in the range (inclusive)
+     * @param toYear   last Common Era (CE) year in the range (inclusive)
+     * @param executor executor on which blocks of years are calculated, e.g.
+     *                 {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * @return chronologically-sorted list of observed holiday dates across all
+     *         years in {@code [fromYear, toYear]}
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see #calculate(int, int)
+     */
+    public List<HolidayDate> calculate(int fromYear, int toYear, Executor executor) {
+        final List<HolidayDate> dates = new ArrayList<>();
+        calculateBlocks(fromYear, toYear, executor).forEach(dates::addAll);
+        dates.sort(Comparator.comparing(HolidayDate::getDate));
+        return Collections.unmodifiableList(dates);
+    }
+
+    /**
+     * Calculate the dates of the holidays on this calendar for each year in
+     * the specified range, grouped by year, computing blocks of consecutive
+     * years concurrently on the given executor. The result is equal to that
+     * of {@link #calculateByYear(int, int)}.
+     *
+     * @param fromYear first Common Era (CE) year in the range (inclusive)
+     * @param toYear   last Common Era (CE) year in the range (inclusive)
+     * @param executor executor on which blocks of years are calculated
+     * @return map of nominal year to chronologically-sorted observed holiday dates,
+     *         ordered by ascending year; all years in the range are present as keys
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see #calculateByYear(int, int)
+     */
+    public Map<Integer, List<HolidayDate>> calculateByYear(int fromYear, int toYear, Executor executor) {
+        final Map<Integer, List<HolidayDate>> byYear = new TreeMap<>();
+        int year = fromYear;
+        for (List<HolidayDate> dates : calculateBlocks(fromYear, toYear, executor)) {
+            byYear.put(year++, dates);
+        }
+        return byYear;
+    }
+
+    /**
+     * Calculate each year in the range through {@link #calculate(int)}, one
+     * task per {@value #PARALLEL_BLOCK_YEARS} consecutive years, returning the
+     * per-year results in year order.
+     */
+    private List<List<HolidayDate>> calculateBlocks(int fromYear, int toYear, Executor executor) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+        }
+        requireNonNull(executor, "Argument 'executor' cannot be null");
+
+        final List<CompletableFuture<List<List<HolidayDate>>>> blocks = new ArrayList<>();
+        for (long start = fromYear; start <= toYear; start += PARALLEL_BLOCK_YEARS) {
+            final int blockFrom = (int) start;
+            final int blockTo = (int) Math.min(start + PARALLEL_BLOCK_YEARS - 1, toYear);
+            blocks.add(CompletableFuture.supplyAsync(() -> {
+                final List<List<HolidayDate>> years = new ArrayList<>(blockTo - blockFrom + 1);
+                for (int year = blockFrom; year <= blockTo; year++) {
+                    years.add(calculate(year));
+                }
+                return years;
+            }, executor));
+        }
+
+        final List<List<HolidayDate>> years = new ArrayList<>(toYear - fromYear + 1);
+        for (CompletableFuture<List<List<HolidayDate>>> block : blocks) {
+            try {
+                years.addAll(block.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                if (e.getCause() instanceof Error cause) throw cause;
+                throw e;
+            }
+        }
+        return years;
+    }
+
+    // -------------------------------------------------------------------------
+    // Lazy holiday streams
+    // -------------------------------------------------------------------------
+
+    /**
+     * Stream the dates of the holidays on this calendar for each year in the
+     * specified range. The stream holds the same dates in the same order as
+     * {@link #calculate(int, int)}, but years are calculated only as the
+     * stream is consumed, so short-circuiting operations such as
+     * {@link Stream#takeWhile takeWhile} or {@link Stream#limit limit} never
+     * calculate the remainder of the range.
+     *
+     * <p>A parallel stream is split into ranges of whole years; encounter
+     * order is preserved.</p>
+     *
+     * @param fromYear first Common Era (CE) year in the range (inclusive)
+     * @param toYear   last Common Era (CE) year in the range (inclusive)
+     * @return lazy, chronologically-ordered stream of observed holiday dates
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see #calculate(int, int)
+     */
+    public Stream<HolidayDate> stream(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+        }
+        // Rolled dates may fall in the year either side of the range
+        final long lowEpochDay = LocalDate.of(Math.max(fromYear - 1, Year.MIN_VALUE), 1, 1).toEpochDay();
+        final long highEpochDay = LocalDate.of(Math.min(toYear + 1, Year.MAX_VALUE), 12, 31).toEpochDay() + 1;
+        return StreamSupport.stream(
+            new HolidayDateSpliterator(this, fromYear, toYear, lowEpochDay, highEpochDay, Integer.MAX_VALUE), false);
+    }
+
+    /**
+     * Stream the holidays on this calendar observed on or after the specified
+     * date, in chronological order. The stream is unbounded; years are
+     * calculated only as it is consumed, so it must be limited by a
+     * short-circuiting operation, e.g. the next five holidays:
+     *
+     * <pre>{@code
+     * calendar.stream(LocalDate.now()).limit(5).toList();
+     * }</pre>
+     *
+     * <p>The stream ends once {@value #MAX_EMPTY_STREAM_YEARS} consecutive
+     * years have no holidays, e.g. after the last special anniversary of a
+     * calendar having only those. A search which may find no match, such as
+     * {@code filter(...).findFirst()}, never ends on a calendar observing a
+     * holiday every year; bound it with {@link Stream#takeWhile} or use
+     * {@link #stream(int, int)}.</p>
+     *
+     * @param from first observed date to include
+     * @return lazy, chronologically-ordered stream of observed holiday dates
+     */
+    public Stream<HolidayDate> stream(LocalDate from) {
+        requireNonNull(from, "Argument 'from' cannot be null");
+        return StreamSupport.stream(
+            new HolidayDateSpliterator(this, Math.max(from.getYear() - 1, Year.MIN_VALUE), Year.MAX_VALUE,
+                                       from.toEpochDay(), LocalDate.MAX.toEpochDay() + 1,
+                                       MAX_EMPTY_STREAM_YEARS), false);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primitive holiday calculation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Calculate the observed dates of the holidays on this calendar for each
+     * year in the specified range, as epoch days. The result holds the same
+     * dates in the same order as {@link #calculate(int, int)}.
+     *
+     * @param fromYear first Common Era (CE) year in the range (inclusive)
+     * @param toYear   last Common Era (CE) year in the range (inclusive)
+     * @return chronologically-sorted array of observed holiday epoch days
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see LocalDate#toEpochDay()
+     */
+    public int[] calculateEpochDays(int fromYear, int toYear) {
+        final int[] epochDays = new int[countHolidays(fromYear, toYear)];
+        fillEpochDays(fromYear, toYear, epochDays, null);
+        return epochDays;
+    }
+
+    /**
+     * Calculate the observed dates of the holidays on this calendar for each
+     * year in the specified range into caller-supplied buffers, without
+     * allocating. Element {@code i} of {@code holidays}, when supplied, is the
+     * holiday observed on epoch day {@code epochDays[i]}. The entries written
+     * hold the same dates in the same order as {@link #calculate(int, int)}.
+     *
+     * <p>Years whose holidays are not in the year cache are calculated first,
+     * which allocates as {@link #calculate(int)} does.</p>
+     *
+     * @param fromYear  first Common Era (CE) year in the range (inclusive)
+     * @param toYear    last Common Era (CE) year in the range (inclusive)
+     * @param epochDays buffer receiving chronologically-sorted epoch days
+     * @param holidays  parallel buffer receiving the observed holidays, or
+     *                  {@code null} if not required
+     * @return number of entries written, starting at index zero
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @throws IndexOutOfBoundsException if a buffer is too small to hold every
+     *         holiday in the range
+     */
+    public int calculateEpochDays(int fromYear, int toYear, int[] epochDays, Holiday[] holidays) {
+        requireNonNull(epochDays, "Argument 'epochDays' cannot be null");
+        final int count = countHolidays(fromYear, toYear);
+        if (epochDays.length < count || (holidays != null && holidays.length < count)) {
+            throw new IndexOutOfBoundsException(
+                "Buffer too small for " + count + " holidays in " + fromYear + "-" + toYear);
+        }
+        fillEpochDays(fromYear, toYear, epochDays, holidays);
+        return count;
+    }
+
+    /**
+     * Stream the observed dates of the holidays on this calendar for each year
+     * in the specified range, as epoch days.
+     *
+     * @param fromYear first Common Era (CE) year in the range (inclusive)
+     * @param toYear   last Common Era (CE) year in the range (inclusive)
+     * @return chronologically-ordered stream of observed holiday epoch days
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see #calculateEpochDays(int, int)
+     */
+    public IntStream epochDays(int fromYear, int toYear) {
+        return Arrays.stream(calculateEpochDays(fromYear, toYear));
+    }
+
+    private int countHolidays(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+        }
+        int count = 0;
+        for (int year = fromYear; year <= toYear; year++) {
+            count += calculate(year).size();
+        }
+        return count;
+    }
+
+    /**
+     * Copy each year's sorted holidays in turn, then restore global order with
+     * an insertion sort. Years only overlap where a holiday is rolled across a
+     * year boundary, so the sort moves very few entries; being stable, it also
+     * preserves the ordering of {@link #calculate(int, int)} for equal dates.
+     */
+    private void fillEpochDays(int fromYear, int toYear, int[] epochDays, Holiday[] holidays) {
+        int size = 0;
+        for (int year = fromYear; year <= toYear; year++) {
+            final List<HolidayDate> dates = calculate(year);
+            for (int i = 0; i < dates.size(); i++) {
+                final HolidayDate holidayDate = dates.get(i);
+                final int epochDay = Math.toIntExact(holidayDate.date().toEpochDay());
+                final Holiday holiday = holidayDate.holiday();
+                int j = size++;
+                for (; j > 0 && epochDays[j - 1] > epochDay; j--) {
+                    epochDays[j] = epochDays[j - 1];
+                    if (holidays != null) holidays[j] = holidays[j - 1];
+                }
+                epochDays[j] = epochDay;
+                if (holidays != null) holidays[j] = holiday;
+            }
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Merge
     // -------------------------------------------------------------------------
@@ -319,8 +1021,14 @@ public class HolidayCalendar {
     /**
      * Merge the given {@code HolidayCalendar} object with this one.
      *
+     * <p>To find days which are business days on several calendars, e.g. for
+     * settlement, prefer a {@link JointCalendarIndex}, which combines the
+     * calendars' business days without rebuilding their holidays. Working-day
+     * overrides are not carried over to the merged calendar.</p>
+     *
      * @param other holiday calendar to be merged
      * @return union of this holiday calendar and the specified calendar
+     * @see HolidayCalendarFactory#createJointIndex(String...)
      */
     public HolidayCalendar merge(final HolidayCalendar other) {
         if (null == other || this == other || this.equals(other)) return this;
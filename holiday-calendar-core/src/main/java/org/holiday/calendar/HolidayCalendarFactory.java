@@ -18,21 +18,110 @@
 
 package org.holiday.calendar;
 
+import org.holiday.calendar.metrics.Instrumentation;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.OptionalInt;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Factory for creation of {@link HolidayCalendar} objects.
  *
+ * <p>Registered {@link HolidayCalendarService services} are discovered via
+ * {@link ServiceLoader} once, on first use, and indexed by their
+ * {@link HolidayCalendarService#getCode() code}. Lookups by code are
+ * case-insensitive, matching {@link AbstractHolidayCalendarService#isProvided(String)}.
+ * Call {@link #refresh()} to discover services again, e.g. after a change of
+ * class loader.</p>
+ *
+ * <p>Calendars and {@link JointCalendarIndex joint calendar indices} created by
+ * a factory are cached until it is refreshed. A joint index is rebuilt when
+ * one of its calendars discards its index because reloadable observance data
+ * changed.</p>
+ *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
 public class HolidayCalendarFactory {
 
     private final ServiceLoader<HolidayCalendarService> serviceLoader = ServiceLoader.load(HolidayCalendarService.class, Thread.currentThread().getContextClassLoader());
-    private final Map<String, HolidayCalendar> cache = new ConcurrentHashMap<>();
+
+    private volatile ServiceRegistry registry;
+
+    /**
+     * Immutable snapshot of the registered services. Services are instantiated
+     * once per snapshot; {@code byCode} keys are upper-cased codes.
+     *
+     * <p>Calendars and joint indices are cached in the snapshot whose services
+     * were current when their lookup began, so a lookup racing
+     * {@link #refresh()} caches its result only in the discarded snapshot.</p>
+     */
+    private record ServiceRegistry(List<HolidayCalendarService> services,
+                                   Map<String, HolidayCalendarService> byCode,
+                                   List<String> codes,
+                                   Map<String, HolidayCalendar> calendars,
+                                   Map<JointKey, JointCalendarIndex> jointIndices) {
+
+        static ServiceRegistry load(ServiceLoader<HolidayCalendarService> loader) {
+            final List<HolidayCalendarService> services = new ArrayList<>();
+            loader.forEach(services::add);
+
+            final Map<String, HolidayCalendarService> byCode = new HashMap<>();
+            final List<String> codes = new ArrayList<>();
+            for (HolidayCalendarService service : services) {
+                final String code = service.getCode();
+                if (code != null) {
+                    codes.add(code);
+                    byCode.putIfAbsent(normalize(code), service);
+                }
+            }
+            Collections.sort(codes);
+            return new ServiceRegistry(List.copyOf(services), Map.copyOf(byCode), List.copyOf(codes),
+                                       new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        HolidayCalendarService find(String code) {
+            if (code != null) {
+                final HolidayCalendarService service = byCode.get(normalize(code));
+                if (service != null) return service;
+            }
+            // Services may accept codes other than the one they report
+            for (HolidayCalendarService service : services) {
+                if (service.isProvided(code)) return service;
+            }
+            return null;
+        }
+
+        private static String normalize(String code) {
+            return code.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Cache key of a joint calendar index: its combination rule and the
+     * upper-cased, de-duplicated and sorted calendar codes.
+     */
+    private record JointKey(JointCalendarIndex.Combination combination, List<String> codes) {
+
+        static JointKey of(JointCalendarIndex.Combination combination, String... codes) {
+            requireNonNull(combination, "Argument 'combination' cannot be null");
+            requireNonNull(codes, "Argument 'codes' cannot be null");
+            final SortedSet<String> normalized = new TreeSet<>();
+            for (String code : codes) {
+                normalized.add(ServiceRegistry.normalize(requireNonNull(code, "Argument 'codes' cannot contain null")));
+            }
+            if (normalized.isEmpty()) {
+                throw new IllegalArgumentException("At least one calendar code is required");
+            }
+            return new JointKey(combination, List.copyOf(normalized));
+        }
+    }
 
     /**
      * Create (or return cached) {@link HolidayCalendar} identified by the specified code.
@@ -43,7 +132,61 @@ public class HolidayCalendarFactory {
      *         holiday calendar
      */
     public HolidayCalendar create(String code) {
-        return cache.computeIfAbsent(code, k -> getService(k).getHolidayCalendar());
+        final Map<String, HolidayCalendar> cache = registry().calendars();
+        final HolidayCalendar cached = cache.get(code);
+        if (Instrumentation.isEnabled()) {
+            Instrumentation.metrics().calendarLookup(code, cached != null);
+        }
+        if (cached != null) return cached;
+        // Built outside the map, so that lookups hashing to the same bin do not wait on it
+        final HolidayCalendar created = getService(code).getHolidayCalendar();
+        final HolidayCalendar raced = cache.putIfAbsent(code, created);
+        return raced != null ? raced : created;
+    }
+
+    /**
+     * Create (or return cached) {@link JointCalendarIndex} answering whether a
+     * day is a business day on <em>every</em> calendar identified by the
+     * specified codes, e.g. for the settlement date of a cross-currency trade.
+     *
+     * @param codes short code identifiers of the calendars to combine
+     * @return joint calendar index
+     * @throws HolidayCalendarNotFoundException if any code does not match an
+     *         available holiday calendar
+     * @see #createJointIndex(JointCalendarIndex.Combination, String...)
+     */
+    public JointCalendarIndex createJointIndex(String... codes) {
+        return createJointIndex(JointCalendarIndex.Combination.ALL, codes);
+    }
+
+    /**
+     * Create (or return cached) {@link JointCalendarIndex} combining the
+     * calendars identified by the specified codes. Joint indices are cached by
+     * combination and by the case-insensitive set of codes, so the order and
+     * repetition of {@code codes} do not matter.
+     *
+     * @param combination rule by which business days are combined
+     * @param codes       short code identifiers of the calendars to combine
+     * @return joint calendar index
+     * @throws HolidayCalendarNotFoundException if any code does not match an
+     *         available holiday calendar
+     * @throws IllegalArgumentException if no codes are given
+     */
+    public JointCalendarIndex createJointIndex(JointCalendarIndex.Combination combination, String... codes) {
+        final JointKey key = JointKey.of(combination, codes);
+        final Map<JointKey, JointCalendarIndex> jointCache = registry().jointIndices();
+        final JointCalendarIndex cached = jointCache.get(key);
+        if (cached != null && cached.isCurrent()) return cached;
+        // Built outside the map, so that lookups hashing to the same bin do not wait on it
+        final JointCalendarIndex created =
+            JointCalendarIndex.of(key.combination(), key.codes().stream().map(this::create).toList());
+        if (cached == null) {
+            final JointCalendarIndex raced = jointCache.putIfAbsent(key, created);
+            if (raced != null && raced.isCurrent()) return raced;
+        } else {
+            jointCache.replace(key, cached, created);
+        }
+        return created;
     }
 
     /**
@@ -56,11 +199,19 @@ public class HolidayCalendarFactory {
      *         holiday calendar service
      */
     public HolidayCalendarService getService(String code) {
-        final Spliterator<HolidayCalendarService> spliterator = serviceLoader.spliterator();
-        return StreamSupport.stream(spliterator, false)
-                .filter(service -> service.isProvided(code))
-                .findFirst()
-                .orElseThrow(() -> new HolidayCalendarNotFoundException(code, listAvailableCodes()));
+        final ServiceRegistry services = registry();
+        final HolidayCalendarService service;
+        if (Instrumentation.isEnabled()) {
+            final long start = System.nanoTime();
+            service = services.find(code);
+            Instrumentation.metrics().serviceLookup(code, System.nanoTime() - start);
+        } else {
+            service = services.find(code);
+        }
+        if (service == null) {
+            throw new HolidayCalendarNotFoundException(code, services.codes());
+        }
+        return service;
     }
 
     /**
@@ -69,12 +220,7 @@ public class HolidayCalendarFactory {
      * @return sorted list of available calendar codes
      */
     public List<String> listAvailableCodes() {
-        final Spliterator<HolidayCalendarService> spliterator = serviceLoader.spliterator();
-        return StreamSupport.stream(spliterator, false)
-                .map(HolidayCalendarService::getCode)
-                .filter(Objects::nonNull)
-                .sorted()
-                .toList();
+        return registry().codes();
     }
 
     /**
@@ -98,4 +244,106 @@ public class HolidayCalendarFactory {
         return getService(code).dataValidThrough();
     }
 
+    /**
+     * Prepare the calendars identified by the specified codes for use, in
+     * parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param codes    short code identifiers of the calendars to warm up
+     * @param fromYear first year to calculate (inclusive)
+     * @param toYear   last year to calculate (inclusive)
+     * @return time taken to warm up each calendar, in the order of {@code codes}
+     * @throws HolidayCalendarNotFoundException if any code does not match an
+     *         available holiday calendar
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     * @see #warmUp(Collection, int, int, Executor)
+     */
+    public Map<String, Duration> warmUp(Collection<String> codes, int fromYear, int toYear) {
+        return warmUp(codes, fromYear, toYear, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepare the calendars identified by the specified codes for use, one
+     * task per calendar on the given executor, so that the first lookup on a
+     * request path pays no one-off cost. Each calendar is created and cached,
+     * every year in {@code [fromYear, toYear]} is calculated, which loads
+     * lazily-initialized observance data and supporting classes, and its
+     * {@link HolidayCalendar#getIndex() index} is built. The calling thread
+     * waits until every calendar has been prepared.
+     *
+     * <p>Codes are validated before any work starts. A code given more than
+     * once is warmed up once.</p>
+     *
+     * @param codes    short code identifiers of the calendars to warm up
+     * @param fromYear first year to calculate (inclusive)
+     * @param toYear   last year to calculate (inclusive)
+     * @param executor executor on which calendars are warmed up
+     * @return time taken to warm up each calendar, in the order of {@code codes}
+     * @throws HolidayCalendarNotFoundException if any code does not match an
+     *         available holiday calendar
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     */
+    public Map<String, Duration> warmUp(Collection<String> codes, int fromYear, int toYear, Executor executor) {
+        requireNonNull(codes, "Argument 'codes' cannot be null");
+        requireNonNull(executor, "Argument 'executor' cannot be null");
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+        }
+        for (String code : codes) {
+            getService(code);
+        }
+
+        final Map<String, CompletableFuture<Duration>> tasks = new LinkedHashMap<>();
+        for (String code : codes) {
+            tasks.computeIfAbsent(code, c ->
+                CompletableFuture.supplyAsync(() -> warmUp(c, fromYear, toYear), executor));
+        }
+        final Map<String, Duration> timings = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Duration>> task : tasks.entrySet()) {
+            try {
+                timings.put(task.getKey(), task.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                if (e.getCause() instanceof Error cause) throw cause;
+                throw e;
+            }
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    private Duration warmUp(String code, int fromYear, int toYear) {
+        final long start = System.nanoTime();
+        final HolidayCalendar calendar = create(code);
+        for (int year = fromYear; year <= toYear; year++) {
+            calendar.calculate(year);
+        }
+        calendar.getIndex();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Discard the registered services and cached calendars of this factory.
+     * Services are discovered again from the {@link ServiceLoader} on next use.
+     */
+    public void refresh() {
+        synchronized (serviceLoader) {
+            serviceLoader.reload();
+            registry = null;
+        }
+    }
+
+    private ServiceRegistry registry() {
+        ServiceRegistry result = registry;
+        if (result == null) {
+            synchronized (serviceLoader) {
+                result = registry;
+                if (result == null) {
+                    result = ServiceRegistry.load(serviceLoader);
+                    registry = result;
+                }
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precomputed day-level index of a {@link HolidayCalendar}. Each day in a
+ * window of whole years is represented by a single bit, set when the day is an
+ * observed holiday on the calendar. Weekend days which the calendar
+ * {@link HolidayCalendar#getWorkingDayOverrides(int) works} are held in a
+ * second bitmap. Queries for days inside the window are answered in constant
+ * time without allocation.
+ *
+ * <p>Days outside the window are answered from per-year bitmaps which are
+ * materialized lazily on first use and held in a small cache, years which
+ * have not been used recently being dropped first. Instances of this class
+ * are immutable from the caller's perspective and thread safe.</p>
+ *
+ * @see HolidayCalendar#getIndex()
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class HolidayCalendarIndex extends BusinessDayIndex {
+
+    /**
+     * Number of years before the current year covered by a default index.
+     */
+    public static final int DEFAULT_YEARS_BEFORE = 20;
+
+    /**
+     * Number of years after the current year covered by a default index.
+     */
+    public static final int DEFAULT_YEARS_AFTER = 30;
+
+    private static final int DAYS_PER_LEAP_YEAR = 366;
+
+    /**
+     * Maximum number of years outside the window whose bitmaps are retained.
+     */
+    static final int OUT_OF_WINDOW_YEARS = 16;
+
+    private final HolidayCalendar calendar;
+    private final int weekendMask;
+    private final long[] holidayBits;
+    private final long[] workingBits;
+    private final YearCache<long[]> outOfWindow = new YearCache<>(OUT_OF_WINDOW_YEARS);
+    private final YearCache<long[]> workingOutOfWindow = new YearCache<>(OUT_OF_WINDOW_YEARS);
+
+    private HolidayCalendarIndex(HolidayCalendar calendar, int fromYear, int toYear,
+                                 long[] holidayBits, long[] workingBits) {
+        super(fromYear, toYear, businessBits(fromYear, toYear, calendar.weekendMask(), holidayBits, workingBits));
+        this.calendar = calendar;
+        this.weekendMask = calendar.weekendMask();
+        this.holidayBits = holidayBits;
+        this.workingBits = workingBits;
+    }
+
+    /**
+     * Build an index of the given calendar covering the years
+     * {@code [fromYear, toYear]}.
+     *
+     * @param calendar holiday calendar to be indexed
+     * @param fromYear first year in the window (inclusive)
+     * @param toYear   last year in the window (inclusive)
+     * @return new holiday calendar index
+     * @throws IllegalArgumentException if {@code fromYear > toYear}
+     */
+    public static HolidayCalendarIndex of(HolidayCalendar calendar, int fromYear, int toYear) {
+        requireNonNull(calendar, "Argument 'calendar' cannot be null");
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "fromYear (" + fromYear + ") must not be greater than toYear (" + toYear + ")");
+        }
+        return new HolidayCalendarIndex(calendar, fromYear, toYear,
+                                        holidayBits(calendar, fromYear, toYear),
+                                        workingBits(calendar, fromYear, toYear));
+    }
+
+    /**
+     * Build an index of the given calendar covering the default window of
+     * {@value #DEFAULT_YEARS_BEFORE} years before through
+     * {@value #DEFAULT_YEARS_AFTER} years after the current year.
+     *
+     * @param calendar holiday calendar to be indexed
+     * @return new holiday calendar index
+     */
+    public static HolidayCalendarIndex of(HolidayCalendar calendar) {
+        final int currentYear = Year.now().getValue();
+        return of(calendar, currentYear - DEFAULT_YEARS_BEFORE, currentYear + DEFAULT_YEARS_AFTER);
+    }
+
+    private static long[] holidayBits(HolidayCalendar calendar, int fromYear, int toYear) {
+        final long firstEpochDay = firstEpochDay(fromYear);
+        final long lastEpochDay = lastEpochDay(toYear);
+        final long[] bits = new long[windowWordCount(fromYear, toYear)];
+
+        // Neighbouring years are included so that holidays rolled across a
+        // year boundary are marked on the day on which they are observed,
+        // except a following year beyond the calendar's data ceiling.
+        final int lastYear = toYear < calendar.dataValidThrough() ? toYear + 1 : toYear;
+        for (int year = fromYear - 1; year <= lastYear; year++) {
+            for (HolidayDate holidayDate : calendar.calculate(year)) {
+                long epochDay = holidayDate.date().toEpochDay();
+                if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+                    setBit(bits, epochDay - firstEpochDay);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static long[] workingBits(HolidayCalendar calendar, int fromYear, int toYear) {
+        if (!calendar.hasWorkingDays()) return null;
+        final long firstEpochDay = firstEpochDay(fromYear);
+        final long[] bits = new long[windowWordCount(fromYear, toYear)];
+        for (int year = fromYear; year <= toYear; year++) {
+            for (LocalDate date : calendar.getWorkingDayOverrides(year)) {
+                setBit(bits, date.toEpochDay() - firstEpochDay);
+            }
+        }
+        return bits;
+    }
+
+    private static long[] businessBits(int fromYear, int toYear, int weekendMask,
+                                       long[] holidayBits, long[] workingBits) {
+        final long firstEpochDay = firstEpochDay(fromYear);
+        final int length = (int) (lastEpochDay(toYear) - firstEpochDay + 1);
+        final long[] bits = new long[holidayBits.length];
+        for (int offset = 0; offset < length; offset++) {
+            final boolean worked = (weekendMask & (1 << dayOfWeekIndex(firstEpochDay + offset))) == 0
+                || (workingBits != null && testBit(workingBits, offset));
+            if (worked && !testBit(holidayBits, offset)) {
+                setBit(bits, offset);
+            }
+        }
+        return bits;
+    }
+
+    // -------------------------------------------------------------------------
+    // Accessors
+    // -------------------------------------------------------------------------
+
+    public HolidayCalendar getCalendar() { return calendar; }
+
+    @Override
+    public String getCode() { return calendar.getCode(); }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determine if the given date is an observed holiday on the indexed calendar.
+     *
+     * @param date date to test
+     * @return {@code true} if a holiday is observed on {@code date}
+     */
+    public boolean isHoliday(LocalDate date) {
+        return isHoliday(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Determine if the given epoch day is an observed holiday on the indexed
+     * calendar.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return {@code true} if a holiday is observed on {@code epochDay}
+     */
+    public boolean isHoliday(long epochDay) {
+        if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+            return testBit(holidayBits, epochDay - firstEpochDay);
+        }
+        final int year = yearOf(epochDay);
+        return testBit(outOfWindow.get(year, this::materialize), epochDay - startOfYear(year));
+    }
+
+    /**
+     * Determine if the given date falls on a weekend day of the indexed calendar.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a weekend day
+     */
+    public boolean isWeekend(LocalDate date) {
+        return isWeekend(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Determine if the given epoch day falls on a weekend day of the indexed
+     * calendar.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return {@code true} if {@code epochDay} is a weekend day
+     */
+    public boolean isWeekend(long epochDay) {
+        return (weekendMask & (1 << dayOfWeekIndex(epochDay))) != 0;
+    }
+
+    /**
+     * Determine if the given date is a weekend day which is worked on the
+     * indexed calendar.
+     *
+     * @param date date to test
+     * @return {@code true} if {@code date} is a working-day override
+     * @see HolidayCalendar#getWorkingDayOverrides(int)
+     */
+    public boolean isWorkingDayOverride(LocalDate date) {
+        return isWorkingDayOverride(requireNonNull(date, "Argument 'date' cannot be null").toEpochDay());
+    }
+
+    /**
+     * Determine if the given epoch day is a weekend day which is worked on the
+     * indexed calendar.
+     *
+     * @param epochDay day count from 1970-01-01 ({@link LocalDate#toEpochDay()})
+     * @return {@code true} if {@code epochDay} is a working-day override
+     */
+    public boolean isWorkingDayOverride(long epochDay) {
+        if (workingBits == null) return false;
+        if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+            return testBit(workingBits, epochDay - firstEpochDay);
+        }
+        final int year = yearOf(epochDay);
+        return testBit(workingOutOfWindow.get(year, this::materializeWorking), epochDay - startOfYear(year));
+    }
+
+    @Override
+    public String toString() {
+        return "HolidayCalendarIndex[code='" + calendar.getCode() + "', years=" + fromYear + ".." + toYear + "]";
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    @Override
+    boolean isBusinessDayOutsideWindow(long epochDay) {
+        return (!isWeekend(epochDay) || isWorkingDayOverride(epochDay)) && !isHoliday(epochDay);
+    }
+
+    @Override
+    boolean hasBusinessDays() {
+        return weekendMask != FULL_WEEK_MASK || workingBits != null;
+    }
+
+    int weekendMask() {
+        return weekendMask;
+    }
+
+    /**
+     * Discard the lazily materialized bitmaps of years outside the window
+     * which depend on any of the given years.
+     */
+    void invalidate(Collection<Integer> years) {
+        final Set<Integer> dependent = new HashSet<>();
+        for (int year : years) {
+            dependent.add(year - 1);
+            dependent.add(year);
+            dependent.add(year + 1);
+        }
+        outOfWindow.invalidate(dependent);
+        workingOutOfWindow.invalidate(years);
+    }
+
+    private long[] materialize(int year) {
+        final long[] bits = new long[wordCount(DAYS_PER_LEAP_YEAR)];
+        for (int y = year - 1; y <= year + 1; y++) {
+            for (HolidayDate holidayDate : calendar.calculate(y)) {
+                if (holidayDate.date().getYear() == year) {
+                    setBit(bits, holidayDate.date().getDayOfYear() - 1L);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private long[] materializeWorking(int year) {
+        final long[] bits = new long[wordCount(DAYS_PER_LEAP_YEAR)];
+        for (LocalDate date : calendar.getWorkingDayOverrides(year)) {
+            setBit(bits, date.getDayOfYear() - 1L);
+        }
+        return bits;
+    }
+
+    /**
+     * Day-of-week index of the given epoch day, where {@code 0} is Monday and
+     * {@code 6} is Sunday (matching {@link DayOfWeek#ordinal()}). 1970-01-01 was
+     * a Thursday.
+     */
+    static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy, ordered {@link Spliterator} over the observed holiday dates of a
+ * {@link HolidayCalendar}. Holidays are calculated one nominal year at a time
+ * as the traversal advances, so a consumer which stops early never causes
+ * later years to be calculated.
+ *
+ * <p>A holiday of nominal year {@code n} may be rolled into year {@code n - 1}
+ * or {@code n + 1} but no further, the same assumption made by
+ * {@link HolidayCalendarIndex}. Dates are therefore released once the next
+ * nominal year to be calculated can no longer precede them, which requires
+ * buffering at most two years of holidays. Equal dates keep the order of
+ * {@link HolidayCalendar#calculate(int, int)}.</p>
+ *
+ * <p>Each spliterator covers a range of nominal years and a half-open range
+ * of observed epoch days. Splitting divides the epoch-day range at the start
+ * of a year, so the prefix holds exactly the dates before that day and the
+ * encounter order of the whole is preserved.</p>
+ *
+ * <p>Traversal ends early once a given number of consecutive nominal years
+ * contribute no dates, so that an open-ended range over a calendar which
+ * stops producing holidays does not run on to {@link java.time.Year#MAX_VALUE}.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class HolidayDateSpliterator implements Spliterator<HolidayDate> {
+
+    private final HolidayCalendar calendar;
+    private final int fromYear;
+    private final int toYear;
+    private long lowEpochDay;
+    private final long highEpochDay;
+    private final int maxEmptyYears;
+
+    private int nextYear;
+    private int lastYear;
+    private List<HolidayDate> pending = List.of();
+    private int position;
+    private int emptyYears;
+
+    /**
+     * @param fromYear     first nominal year (inclusive)
+     * @param toYear       last nominal year (inclusive)
+     * @param lowEpochDay  first observed epoch day (inclusive)
+     * @param highEpochDay last observed epoch day (exclusive)
+     * @param maxEmptyYears number of consecutive nominal years without dates
+     *                      after which traversal ends
+     */
+    HolidayDateSpliterator(HolidayCalendar calendar, int fromYear, int toYear, long lowEpochDay, long highEpochDay,
+                           int maxEmptyYears) {
+        this.calendar = calendar;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.highEpochDay = highEpochDay;
+        this.maxEmptyYears = maxEmptyYears;
+        resetWindow(lowEpochDay);
+    }
+
+    private void resetWindow(long lowEpochDay) {
+        this.lowEpochDay = lowEpochDay;
+        this.nextYear = Math.max(fromYear, yearOf(lowEpochDay) - 1);
+        this.lastYear = Math.min(toYear, yearOf(highEpochDay - 1) + 1);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super HolidayDate> action) {
+        while (true) {
+            if (position < pending.size()) {
+                final HolidayDate head = pending.get(position);
+                // Years not yet calculated may still produce dates in the year before them
+                if (nextYear > lastYear || head.date().getYear() < nextYear - 1) {
+                    position++;
+                    action.accept(head);
+                    return true;
+                }
+            } else if (nextYear > lastYear) {
+                return false;
+            }
+            calculateNextYear();
+        }
+    }
+
+    /**
+     * Merge the holidays of the next nominal year which fall in the epoch-day
+     * range into the dates not yet released. Ties keep pending dates first.
+     */
+    private void calculateNextYear() {
+        final List<HolidayDate> dates = calendar.calculate(nextYear++);
+        final List<HolidayDate> merged = new ArrayList<>(pending.size() - position + dates.size());
+        int i = position;
+        int added = 0;
+        for (HolidayDate holidayDate : dates) {
+            final long epochDay = holidayDate.date().toEpochDay();
+            if (epochDay < lowEpochDay || epochDay >= highEpochDay) continue;
+            while (i < pending.size() && !pending.get(i).date().isAfter(holidayDate.date())) {
+                merged.add(pending.get(i++));
+            }
+            merged.add(holidayDate);
+            added++;
+        }
+        while (i < pending.size()) {
+            merged.add(pending.get(i++));
+        }
+        pending = merged;
+        position = 0;
+        emptyYears = added == 0 ? emptyYears + 1 : 0;
+        if (emptyYears >= maxEmptyYears) {
+            lastYear = nextYear - 1;
+        }
+    }
+
+    @Override
+    public Spliterator<HolidayDate> trySplit() {
+        if (position < pending.size() || nextYear != Math.max(fromYear, yearOf(lowEpochDay) - 1)) {
+            return null;    // traversal has begun
+        }
+        final int lowYear = yearOf(lowEpochDay);
+        final int highYear = yearOf(highEpochDay - 1);
+        if (highYear - lowYear < 2 || nextYear > lastYear) {
+            return null;
+        }
+        final long split = LocalDate.of(lowYear + (highYear - lowYear) / 2, 1, 1).toEpochDay();
+        final HolidayDateSpliterator prefix =
+            new HolidayDateSpliterator(calendar, fromYear, toYear, lowEpochDay, split, maxEmptyYears);
+        resetWindow(split);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long years = Math.max(0, lastYear - nextYear + 1L);
+        return pending.size() - position + years * calendar.getHolidays().size();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    private static int yearOf(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).getYear();
+    }
+
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Business-day index over a combination of {@link HolidayCalendar calendars},
+ * as needed for settlement across several currencies or markets. The business
+ * days of the component {@link HolidayCalendarIndex indices} are combined a
+ * 64-day word at a time with bitwise AND ({@link Combination#ALL}) or OR
+ * ({@link Combination#ANY}), so spot-date and T+N queries cost the same as for
+ * a single calendar regardless of how many calendars are combined.
+ *
+ * <p>The precomputed window is the overlap of the component windows. Days
+ * outside it are resolved by querying each component. Instances are immutable
+ * from the caller's perspective and thread safe.</p>
+ *
+ * @see HolidayCalendarFactory#createJointIndex(Combination, String...)
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class JointCalendarIndex extends BusinessDayIndex {
+
+    /**
+     * Rule by which the business days of the component calendars are combined.
+     */
+    public enum Combination {
+        /** A business day on every component calendar (bitwise AND). */
+        ALL,
+        /** A business day on at least one component calendar (bitwise OR). */
+        ANY
+    }
+
+    private final Combination combination;
+    private final List<HolidayCalendarIndex> components;
+    private final String code;
+    private final boolean hasBusinessDays;
+
+    private JointCalendarIndex(Combination combination, List<HolidayCalendarIndex> components,
+                               int fromYear, int toYear) {
+        super(fromYear, toYear, combine(combination, components, fromYear, toYear));
+        this.combination = combination;
+        this.components = components;
+        this.code = String.join(combination == Combination.ALL ? "&" : "|",
+                                components.stream().map(HolidayCalendarIndex::getCode).toList());
+
+        int weekendMask = combination == Combination.ALL ? 0 : FULL_WEEK_MASK;
+        for (HolidayCalendarIndex component : components) {
+            weekendMask = combination == Combination.ALL
+                ? weekendMask | component.weekendMask()
+                : weekendMask & component.weekendMask();
+        }
+        this.hasBusinessDays = weekendMask != FULL_WEEK_MASK
+            || (combination == Combination.ANY && components.stream().anyMatch(HolidayCalendarIndex::hasBusinessDays));
+    }
+
+    /**
+     * Build a joint index of the given calendars from their
+     * {@link HolidayCalendar#getIndex() indices}.
+     *
+     * @param combination rule by which business days are combined
+     * @param calendars   calendars to be combined, in the order reported by
+     *                    {@link #getCode()}
+     * @return new joint calendar index
+     * @throws IllegalArgumentException if {@code calendars} is empty or the
+     *         windows of their indices do not overlap
+     */
+    public static JointCalendarIndex of(Combination combination, Collection<HolidayCalendar> calendars) {
+        requireNonNull(combination, "Argument 'combination' cannot be null");
+        requireNonNull(calendars, "Argument 'calendars' cannot be null");
+        final List<HolidayCalendarIndex> components = new ArrayList<>(calendars.size());
+        for (HolidayCalendar calendar : calendars) {
+            components.add(requireNonNull(calendar, "Argument 'calendars' cannot contain null").getIndex());
+        }
+        if (components.isEmpty()) {
+            throw new IllegalArgumentException("At least one calendar is required");
+        }
+
+        int fromYear = Integer.MIN_VALUE;
+        int toYear = Integer.MAX_VALUE;
+        for (HolidayCalendarIndex component : components) {
+            fromYear = Math.max(fromYear, component.getFromYear());
+            toYear = Math.min(toYear, component.getToYear());
+        }
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("Index windows of calendars " + calendars + " do not overlap");
+        }
+        return new JointCalendarIndex(combination, List.copyOf(components), fromYear, toYear);
+    }
+
+    private static long[] combine(Combination combination, List<HolidayCalendarIndex> components,
+                                  int fromYear, int toYear) {
+        final long firstEpochDay = firstEpochDay(fromYear);
+        final long[] bits = new long[windowWordCount(fromYear, toYear)];
+        for (int w = 0; w < bits.length; w++) {
+            final long epochDay = firstEpochDay + ((long) w << 6);
+            long word = components.getFirst().businessWord(epochDay);
+            for (int i = 1; i < components.size(); i++) {
+                word = combination == Combination.ALL
+                    ? word & components.get(i).businessWord(epochDay)
+                    : word | components.get(i).businessWord(epochDay);
+            }
+            bits[w] = word;
+        }
+        // Clear the bits of the final word which lie beyond the window
+        final int tail = (int) ((lastEpochDay(toYear) - firstEpochDay + 1) & 63);
+        if (tail != 0) {
+            bits[bits.length - 1] &= (1L << tail) - 1;
+        }
+        return bits;
+    }
+
+    // -------------------------------------------------------------------------
+    // Accessors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the code of this joint index: the component calendar codes joined
+     * by {@code &} for {@link Combination#ALL} or {@code |} for
+     * {@link Combination#ANY}, e.g. {@code "USD&EUR"}.
+     *
+     * @return joint calendar code
+     */
+    @Override
+    public String getCode() { return code; }
+
+    public Combination getCombination() { return combination; }
+
+    /**
+     * Get the indices of the component calendars.
+     *
+     * @return unmodifiable list of component indices
+     */
+    public List<HolidayCalendarIndex> getComponents() { return components; }
+
+    @Override
+    public String toString() {
+        return "JointCalendarIndex[code='" + code + "', years=" + fromYear + ".." + toYear + "]";
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    @Override
+    boolean isBusinessDayOutsideWindow(long epochDay) {
+        for (HolidayCalendarIndex component : components) {
+            if (component.isBusinessDay(epochDay) == (combination == Combination.ANY)) {
+                return combination == Combination.ANY;
+            }
+        }
+        return combination == Combination.ALL;
+    }
+
+    @Override
+    boolean hasBusinessDays() {
+        return hasBusinessDays;
+    }
+
+    /**
+     * Determine whether every component is still the index of its calendar,
+     * i.e. none has been discarded because its observance data was reloaded.
+     */
+    boolean isCurrent() {
+        for (HolidayCalendarIndex component : components) {
+            if (component.getCalendar().currentIndex() != component) return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.holiday.calendar.util.ObservanceDataListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of the calendars whose holidays read reloadable observance data,
+ * by resource name. When a resource is reloaded with changed data, the
+ * changed years are invalidated on each calendar reading it, and on no
+ * other. Calendars are held weakly, so registration does not keep them
+ * alive.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class ReloadableCalendars implements ObservanceDataListener {
+
+    private static final ReloadableCalendars INSTANCE = new ReloadableCalendars();
+
+    static {
+        CsvObservanceLoader.addListener(INSTANCE);
+    }
+
+    private final Map<String, Set<HolidayCalendar>> byResource = new HashMap<>();
+
+    private ReloadableCalendars() {}
+
+    static void register(HolidayCalendar calendar, Set<String> resources) {
+        synchronized (INSTANCE) {
+            for (String resource : resources) {
+                INSTANCE.byResource
+                    .computeIfAbsent(resource, r -> Collections.newSetFromMap(new WeakHashMap<>()))
+                    .add(calendar);
+            }
+        }
+    }
+
+    @Override
+    public void observanceDataChanged(String resource, Set<Integer> years) {
+        final List<HolidayCalendar> calendars;
+        synchronized (this) {
+            final Set<HolidayCalendar> registered = byResource.get(resource);
+            if (registered == null) return;
+            calendars = new ArrayList<>(registered);
+        }
+        for (HolidayCalendar calendar : calendars) {
+            calendar.invalidate(years);
+        }
+    }
+
+}
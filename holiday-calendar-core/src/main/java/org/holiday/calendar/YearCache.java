@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded, thread-safe cache of per-year results. Reads are lock-free and a
+ * hit on a recently used year performs no writes. When an insertion finds the
+ * cache full a victim is chosen with the CLOCK (second chance) policy: each
+ * entry carries a reference flag, set on the first hit after it was last
+ * passed over, and the clock hand evicts the first entry whose flag is clear.
+ *
+ * <p>Lookups scan the slots linearly, which suits the small capacities used
+ * per calendar (tens of years).</p>
+ *
+ * @param <V> type of the cached per-year result
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class YearCache<V> {
+
+    // Year.MIN_VALUE is -999,999,999, so no valid year maps to this slot key
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private static final class Entry<V> {
+        final int year;
+        final V value;
+        volatile boolean referenced;
+
+        Entry(int year, V value) {
+            this.year = year;
+            this.value = value;
+        }
+    }
+
+    private final int capacity;
+    // Slot keys, written under the lock; a stale read only causes a miss
+    private final int[] years;
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final AtomicLong invalidations = new AtomicLong();
+    private int hand;
+
+    /**
+     * Construct a new cache holding at most {@code capacity} years. A capacity
+     * of zero disables caching.
+     *
+     * @param capacity maximum number of cached years
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    YearCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity (" + capacity + ") must not be negative");
+        }
+        this.capacity = capacity;
+        this.years = new int[capacity];
+        this.slots = new AtomicReferenceArray<>(capacity);
+        Arrays.fill(years, EMPTY);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        int size = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (slots.get(i) != null) size++;
+        }
+        return size;
+    }
+
+    /**
+     * Get the cached result for the given year, computing and caching it on a
+     * miss. Concurrent misses for the same year may compute more than once;
+     * the computation must be side effect free.
+     */
+    V get(int year, IntFunction<V> compute) {
+        final Entry<V> cached = lookup(year);
+        if (cached != null) {
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.value;
+        }
+        final long generation = invalidations.get();
+        final V value = compute.apply(year);
+        if (capacity > 0) {
+            insert(year, value, generation);
+        }
+        return value;
+    }
+
+    synchronized void clear() {
+        invalidations.incrementAndGet();
+        for (int i = 0; i < capacity; i++) {
+            release(i);
+        }
+    }
+
+    /**
+     * Discard the cached results for the given years. A result being
+     * computed concurrently is not cached.
+     */
+    synchronized void invalidate(Collection<Integer> years) {
+        invalidations.incrementAndGet();
+        for (int i = 0; i < capacity; i++) {
+            final Entry<V> entry = slots.get(i);
+            if (entry != null && years.contains(entry.year)) {
+                release(i);
+            }
+        }
+    }
+
+    private Entry<V> lookup(int year) {
+        for (int i = 0; i < capacity; i++) {
+            if (years[i] == year) {
+                final Entry<V> entry = slots.get(i);
+                if (entry != null && entry.year == year) return entry;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void insert(int year, V value, long generation) {
+        if (invalidations.get() != generation) {
+            // Computed from data that may have been invalidated meanwhile
+            return;
+        }
+        int free = -1;
+        for (int i = 0; i < capacity; i++) {
+            final Entry<V> entry = slots.get(i);
+            if (entry == null) {
+                if (free < 0) free = i;
+            } else if (entry.year == year) {
+                return;
+            }
+        }
+        final int slot = free >= 0 ? free : victim();
+        years[slot] = year;
+        slots.set(slot, new Entry<>(year, value));
+    }
+
+    private int victim() {
+        while (true) {
+            final int slot = hand;
+            hand = slot + 1 == capacity ? 0 : slot + 1;
+            final Entry<V> entry = slots.get(slot);
+            if (!entry.referenced) return slot;
+            entry.referenced = false;
+        }
+    }
+
+    private void release(int slot) {
+        slots.set(slot, null);
+        years[slot] = EMPTY;
+    }
+
+}
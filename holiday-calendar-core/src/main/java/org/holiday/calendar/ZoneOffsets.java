@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-zone cache of UTC offsets, for converting epoch seconds to local epoch
+ * days without allocation. For each {@link ZoneId} the offset in force is
+ * cached together with the span of epoch seconds between the surrounding
+ * offset transitions, so lookups allocate nothing until the span is left
+ * (typically twice a year for zones observing daylight saving time, never
+ * for fixed-offset zones).
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class ZoneOffsets {
+
+    /**
+     * Offset in force for epoch seconds {@code [from, until)}.
+     */
+    private record Span(ZoneRules rules, long from, long until, int offsetSeconds) {
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= from && epochSecond < until;
+        }
+    }
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final Map<ZoneId, Span> SPANS = new ConcurrentHashMap<>();
+
+    private ZoneOffsets() {}
+
+    /**
+     * Get the local epoch day in the given zone of the given epoch second.
+     */
+    static long epochDay(long epochSecond, ZoneId zoneId) {
+        return Math.floorDiv(epochSecond + offsetSeconds(epochSecond, zoneId), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Get the epoch day in UTC of the given epoch second.
+     */
+    static long epochDayUTC(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Get the total UTC offset, in seconds, in force in the given zone at the
+     * given epoch second.
+     */
+    static int offsetSeconds(long epochSecond, ZoneId zoneId) {
+        final Span span = SPANS.get(zoneId);
+        if (span != null && span.contains(epochSecond)) {
+            return span.offsetSeconds();
+        }
+        final Span fresh = span(span != null ? span.rules() : zoneId.getRules(), epochSecond);
+        SPANS.put(zoneId, fresh);
+        return fresh.offsetSeconds();
+    }
+
+    private static Span span(ZoneRules rules, long epochSecond) {
+        if (rules.isFixedOffset()) {
+            return new Span(rules, Long.MIN_VALUE, Long.MAX_VALUE,
+                            rules.getOffset(Instant.EPOCH).getTotalSeconds());
+        }
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        // Offset by one second so that a transition at exactly epochSecond
+        // starts the span rather than being skipped
+        final ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+        return new Span(rules,
+                        previous != null ? previous.toEpochSecond() : Long.MIN_VALUE,
+                        next != null ? next.toEpochSecond() : Long.MAX_VALUE,
+                        rules.getOffset(instant).getTotalSeconds());
+    }
+
+}
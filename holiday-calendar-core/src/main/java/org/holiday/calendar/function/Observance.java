@@ -19,6 +19,7 @@
 package org.holiday.calendar.function;
 
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -30,6 +31,12 @@ import java.util.function.Predicate;
 @FunctionalInterface
 public interface Observance extends Function<Integer, LocalDate>, Predicate<Integer> {
 
+    /**
+     * Value returned by {@link #epochDay(int)} for a year in which the
+     * observance does not occur.
+     */
+    long NOT_OBSERVED = Long.MIN_VALUE;
+
     /**
      * {@inheritDoc}
      * Determines whether this observance applies to the specified year.
@@ -42,4 +49,31 @@ public interface Observance extends Function<Integer, LocalDate>, Predicate<Inte
         return true;
     }
 
+    /**
+     * Get the date of this observance in the specified year as an epoch day.
+     * Implementations which derive dates arithmetically override this to
+     * avoid creating a {@link LocalDate}.
+     *
+     * @param year year of potential observance
+     * @return day count from 1970-01-01 ({@link LocalDate#toEpochDay()}), or
+     *         {@link #NOT_OBSERVED} if there is no observance in {@code year}
+     */
+    default long epochDay(int year) {
+        final LocalDate date = apply(year);
+        return date != null ? date.toEpochDay() : NOT_OBSERVED;
+    }
+
+    /**
+     * Names of the reloadable observance data resources from which the dates
+     * of this observance are read (see
+     * {@link org.holiday.calendar.util.ObservanceData}). A calendar observing
+     * this observance discards the affected years of its cached results when
+     * any of these resources is reloaded. Defaults to none.
+     *
+     * @return resource names, empty for an observance which reads no data
+     */
+    default Set<String> dataResources() {
+        return Set.of();
+    }
+
 }
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.function;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Function supplying the weekend days of a year on which business is
+ * nonetheless conducted, such as the make-up working days the Chinese State
+ * Council designates around extended public holidays. A calendar treats each
+ * such date as a business day unless a holiday is observed on it.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@FunctionalInterface
+public interface WorkingDays {
+
+    /**
+     * Get the working-day overrides of the specified year. Dates which fall
+     * outside the year or on a day which is not a weekend day of the calendar
+     * are ignored.
+     *
+     * @param year calendar year
+     * @return weekend dates worked in {@code year}; never {@code null}
+     */
+    Collection<LocalDate> forYear(int year);
+
+    /**
+     * Names of the reloadable observance data resources from which the dates
+     * are read, with the same meaning as {@link Observance#dataResources()}.
+     * Defaults to none.
+     *
+     * @return resource names, empty if no data is read
+     */
+    default Set<String> dataResources() {
+        return Set.of();
+    }
+
+}
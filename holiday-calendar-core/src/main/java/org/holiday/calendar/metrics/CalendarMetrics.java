@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.metrics;
+
+/**
+ * Receiver of counters and timings from holiday calendar computations,
+ * registered as a {@link java.util.ServiceLoader service} in the same way as
+ * {@link org.holiday.calendar.HolidayCalendarService}. Every method does
+ * nothing by default, so a provider implements only what it records.
+ *
+ * <p>Methods are called on the thread doing the work, possibly from many
+ * threads at once, and must be thread safe and cheap; a provider typically
+ * forwards to a metrics library such as Micrometer. Durations are in
+ * nanoseconds as measured by {@link System#nanoTime()}.</p>
+ *
+ * @see Instrumentation
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public interface CalendarMetrics {
+
+    /**
+     * A calendar was requested from a
+     * {@link org.holiday.calendar.HolidayCalendarFactory HolidayCalendarFactory}.
+     *
+     * @param code   requested calendar code
+     * @param cached {@code true} if the factory returned a cached calendar,
+     *               {@code false} if it had to be created
+     */
+    default void calendarLookup(String code, boolean cached) {}
+
+    /**
+     * The registered services were searched for the service providing a code.
+     *
+     * @param code  requested calendar code
+     * @param nanos time taken by the search
+     */
+    default void serviceLookup(String code, long nanos) {}
+
+    /**
+     * The holidays of a calendar were calculated for a year, whether or not
+     * the result was cached.
+     *
+     * @param calendarCode code of the calendar
+     * @param year         year calculated
+     * @param holidays     number of holiday dates in the result
+     * @param nanos        time taken by the calculation
+     */
+    default void calculated(String calendarCode, int year, int holidays, long nanos) {}
+
+    /**
+     * An observance computed its date for a year.
+     *
+     * @param observance class of the observance
+     * @param year       year computed
+     * @param nanos      time taken by the computation
+     */
+    default void observanceComputed(Class<?> observance, int year, long nanos) {}
+
+    /**
+     * A table of observance dates was loaded.
+     *
+     * @param resource name of the resource loaded
+     * @param rows     number of rows loaded
+     * @param nanos    time taken by the load
+     */
+    default void dataLoaded(String resource, int rows, long nanos) {}
+
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Access to the {@link CalendarMetrics} providers registered with the
+ * {@link ServiceLoader}, discovered once when this class is initialized.
+ *
+ * <p>Instrumented code tests {@link #isEnabled()} before reading the clock:</p>
+ *
+ * <pre>{@code
+ * if (Instrumentation.isEnabled()) {
+ *     final long start = System.nanoTime();
+ *     ...
+ *     Instrumentation.metrics().calculated(code, year, count, System.nanoTime() - start);
+ * }
+ * }</pre>
+ *
+ * <p>Without a registered provider the check is a single field read and
+ * branch, which is all that instrumentation adds to the hot path.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class Instrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Instrumentation.class);
+
+    private static final CalendarMetrics NO_OP = new CalendarMetrics() {};
+    private static volatile CalendarMetrics metrics = load();
+
+    private Instrumentation() {}
+
+    /**
+     * Determine if any {@link CalendarMetrics} provider is registered.
+     *
+     * @return {@code true} if computations are instrumented
+     */
+    public static boolean isEnabled() {
+        return metrics != NO_OP;
+    }
+
+    /**
+     * Get the receiver of metrics: the registered provider, a composite of all
+     * registered providers, or a no-op if there are none.
+     *
+     * @return calendar metrics receiver
+     */
+    public static CalendarMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Replace the receiver of metrics, for tests which observe instrumentation
+     * without registering a provider for every test.
+     *
+     * @param receiver metrics receiver, or {@code null} to disable
+     *                 instrumentation
+     * @return previous receiver, or {@code null} if instrumentation was
+     *         disabled
+     */
+    static CalendarMetrics install(CalendarMetrics receiver) {
+        final CalendarMetrics previous = metrics;
+        metrics = receiver != null ? receiver : NO_OP;
+        return previous != NO_OP ? previous : null;
+    }
+
+    private static CalendarMetrics load() {
+        final List<CalendarMetrics> providers = new ArrayList<>();
+        try {
+            ServiceLoader.load(CalendarMetrics.class).forEach(providers::add);
+        } catch (ServiceConfigurationError e) {
+            LOGGER.warn("Calendar metrics disabled: {}", e.getMessage());
+            return NO_OP;
+        }
+        return switch (providers.size()) {
+            case 0 -> NO_OP;
+            case 1 -> providers.getFirst();
+            default -> new CompositeMetrics(List.copyOf(providers));
+        };
+    }
+
+    private record CompositeMetrics(List<CalendarMetrics> providers) implements CalendarMetrics {
+
+        @Override
+        public void calendarLookup(String code, boolean cached) {
+            providers.forEach(p -> p.calendarLookup(code, cached));
+        }
+
+        @Override
+        public void serviceLookup(String code, long nanos) {
+            providers.forEach(p -> p.serviceLookup(code, nanos));
+        }
+
+        @Override
+        public void calculated(String calendarCode, int year, int holidays, long nanos) {
+            providers.forEach(p -> p.calculated(calendarCode, year, holidays, nanos));
+        }
+
+        @Override
+        public void observanceComputed(Class<?> observance, int year, long nanos) {
+            providers.forEach(p -> p.observanceComputed(observance, year, nanos));
+        }
+
+        @Override
+        public void dataLoaded(String resource, int rows, long nanos) {
+            providers.forEach(p -> p.dataLoaded(resource, rows, nanos));
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.holiday.calendar.observance;
 
 import org.holiday.calendar.function.Observance;
+import org.holiday.calendar.metrics.Instrumentation;
 
 import java.time.LocalDate;
 
@@ -32,7 +33,26 @@ public abstract class AbstractObservance implements Observance {
 
     @Override
     public final LocalDate apply(Integer year) {
-        return (year != null && isValidYear(year)) ? computeDate(year) : null;
+        if (year == null || !isValidYear(year)) return null;
+        if (Instrumentation.isEnabled()) {
+            final long start = System.nanoTime();
+            final LocalDate date = computeDate(year);
+            Instrumentation.metrics().observanceComputed(getClass(), year, System.nanoTime() - start);
+            return date;
+        }
+        return computeDate(year);
+    }
+
+    @Override
+    public final long epochDay(int year) {
+        if (!isValidYear(year)) return NOT_OBSERVED;
+        if (Instrumentation.isEnabled()) {
+            final long start = System.nanoTime();
+            final long epochDay = computeEpochDay(year);
+            Instrumentation.metrics().observanceComputed(getClass(), year, System.nanoTime() - start);
+            return epochDay;
+        }
+        return computeEpochDay(year);
     }
 
     @Override
@@ -49,6 +69,20 @@ public abstract class AbstractObservance implements Observance {
      */
     protected abstract LocalDate computeDate(int year);
 
+    /**
+     * Compute the date for this observance in the given year as an epoch
+     * day. Only called when {@link #isValidYear(int)} returns {@code true}.
+     * Defaults to the epoch day of {@link #computeDate(int)}; observances
+     * derived arithmetically from another date override both methods.
+     *
+     * @param year the year for which to compute the date
+     * @return day count from 1970-01-01 of the computed holiday date
+     */
+    protected long computeEpochDay(int year) {
+        final LocalDate date = computeDate(year);
+        return date != null ? date.toEpochDay() : NOT_OBSERVED;
+    }
+
     /**
      * Determine whether this observance applies in the given year.
      * Defaults to {@code true} (all years are valid).
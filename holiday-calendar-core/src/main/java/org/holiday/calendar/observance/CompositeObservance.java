@@ -21,6 +21,7 @@ package org.holiday.calendar.observance;
 import org.holiday.calendar.function.Observance;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Abstract base class for observances that are computed relative to another
@@ -41,4 +42,9 @@ public abstract class CompositeObservance extends AbstractObservance {
         return base.test(year);
     }
 
+    @Override
+    public Set<String> dataResources() {
+        return base.dataResources();
+    }
+
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only view of the observance tables of one package, compiled at build
+ * time by {@code holiday-calendar-tools} into a single {@value #RESOURCE_NAME}
+ * resource. The resource is copied once into a direct {@link ByteBuffer} and
+ * read with absolute gets only, so instances are thread-safe and the table
+ * data stays off the Java heap.
+ *
+ * <p>The build compiles the resource from the CSVs beside it, so a table is
+ * only used for a CSV located beside the resource: a CSV earlier on the
+ * classpath, such as a test resource, takes precedence. When both are plain
+ * files, as in an IDE build, a CSV modified after the resource also does.
+ * Neither check opens the CSV.</p>
+ *
+ * <p>Format (big-endian): magic {@code int}, version {@code short}, table
+ * count {@code int}, then per table the UTF-8 CSV file name prefixed by its
+ * {@code short} length, a row count {@code int} and that many
+ * {@code (int year, int epochDay)} pairs in CSV order.</p>
+ */
+final class CompiledObservanceData {
+
+    static final String RESOURCE_NAME = "observances.bin";
+    static final int MAGIC = 0x48434F42;   // "HCOB"
+    static final short VERSION = 1;
+
+    private static final long UNKNOWN = -1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledObservanceData.class);
+    private static final CompiledObservanceData NONE =
+        new CompiledObservanceData(ByteBuffer.allocate(0), Map.of(), "", UNKNOWN);
+    private static final Map<String, CompiledObservanceData> BY_PACKAGE = new ConcurrentHashMap<>();
+
+    private final ByteBuffer data;
+    private final Map<String, Integer> tableOffsets;
+    private final String location;
+    private final long compiledAt;
+
+    private CompiledObservanceData(ByteBuffer data, Map<String, Integer> tableOffsets,
+                                   String location, long compiledAt) {
+        this.data = data;
+        this.tableOffsets = tableOffsets;
+        this.location = location;
+        this.compiledAt = compiledAt;
+    }
+
+    /**
+     * Get the compiled tables of {@code anchor}'s package, loading them on
+     * first use. A package without a compiled resource, or whose resource
+     * cannot be read, has no tables.
+     */
+    static CompiledObservanceData forPackage(Class<?> anchor) {
+        return BY_PACKAGE.computeIfAbsent(anchor.getPackageName(), pkg -> load(anchor.getResource(RESOURCE_NAME)));
+    }
+
+    /**
+     * Load the compiled tables held by the given resource.
+     *
+     * @param resource URL of an {@value #RESOURCE_NAME} resource, or
+     *                 {@code null} for none
+     */
+    static CompiledObservanceData load(URL resource) {
+        if (resource == null) return NONE;
+        try (InputStream is = resource.openStream()) {
+            final byte[] bytes = is.readAllBytes();
+            return of(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(), resource);
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.warn("Ignoring compiled observance data {}: {}", resource, e.getMessage());
+            return NONE;
+        }
+    }
+
+    /**
+     * Index the tables held in the given buffer, read from {@code source}.
+     *
+     * @throws IllegalStateException if the buffer is not compiled observance
+     *         data of a supported version, or is truncated
+     */
+    static CompiledObservanceData of(ByteBuffer data, URL source) {
+        try {
+            int position = 0;
+            if (data.getInt(position) != MAGIC || data.getShort(position + 4) != VERSION) {
+                throw new IllegalStateException("Unsupported compiled observance data");
+            }
+            final int tableCount = data.getInt(position + 6);
+            position += 10;
+            final Map<String, Integer> offsets = HashMap.newHashMap(tableCount);
+            for (int t = 0; t < tableCount; t++) {
+                final byte[] name = new byte[Short.toUnsignedInt(data.getShort(position))];
+                data.get(position + 2, name);
+                position += 2 + name.length;
+                offsets.put(new String(name, StandardCharsets.UTF_8), position);
+                position += 4 + 8 * data.getInt(position);
+            }
+            if (position != data.limit()) {
+                throw new IllegalStateException("Malformed compiled observance data");
+            }
+            final String url = source.toString();
+            return new CompiledObservanceData(data, Map.copyOf(offsets),
+                                              url.substring(0, url.length() - RESOURCE_NAME.length()),
+                                              lastModified(source));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Truncated compiled observance data", e);
+        }
+    }
+
+    /**
+     * Pass each row of the named table to the accumulator, in CSV order, if
+     * the table was compiled from the given CSV and is not older than it.
+     *
+     * @param csvName     file name of the CSV from which the table was compiled
+     * @param csv         URL at which the CSV is currently found
+     * @param accumulator receives each year and date
+     * @return {@code true} if a current table is present, otherwise
+     *         {@code false} and the accumulator is not called
+     */
+    boolean scan(String csvName, URL csv, BiConsumer<Integer, LocalDate> accumulator) {
+        final Integer offset = tableOffsets.get(csvName);
+        if (offset == null) return false;
+        if (!csv.toString().equals(location + csvName)) {
+            LOGGER.debug("Compiled observance data for {} is overridden by {}", csvName, csv);
+            return false;
+        }
+        if (compiledAt != UNKNOWN && lastModified(csv) > compiledAt) {
+            LOGGER.warn("Ignoring stale compiled observance data for {}; the CSV has changed since it was compiled", csvName);
+            return false;
+        }
+        final int rows = data.getInt(offset);
+        for (int row = 0, position = offset + 4; row < rows; row++, position += 8) {
+            accumulator.accept(data.getInt(position), LocalDate.ofEpochDay(data.getInt(position + 4)));
+        }
+        return true;
+    }
+
+    /**
+     * Modification time of a resource which is a plain file, else
+     * {@link #UNKNOWN}. Resources in a jar are compiled and packaged together.
+     */
+    private static long lastModified(URL resource) {
+        if (!"file".equals(resource.getProtocol())) return UNKNOWN;
+        try {
+            return Files.getLastModifiedTime(Path.of(resource.toURI())).toMillis();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+
+}
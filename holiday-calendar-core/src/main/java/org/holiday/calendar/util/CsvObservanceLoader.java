@@ -18,6 +18,7 @@
 
 package org.holiday.calendar.util;
 
+import org.holiday.calendar.metrics.Instrumentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -34,7 +37,16 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Utility for loading observance date tables from classpath CSV resources.
@@ -50,12 +62,26 @@ import java.util.function.BiConsumer;
  * follows JPMS resource-access semantics: pass the class that lives in the
  * same module package as the resource file.
  *
- * <p>This class is stateless and thread-safe.
+ * <p>A resource named relative to {@code anchor}'s package is read from the
+ * package's compiled {@code observances.bin} when one is present and current
+ * for the CSV, without opening the CSV; otherwise the CSV itself is parsed.
+ *
+ * <p>Tables which may change after release are obtained as
+ * {@link ObservanceData reloadable} handles instead, whose data an open
+ * {@link ObservanceDataDirectory} may override and which notify
+ * {@link ObservanceDataListener listeners} of the years changed by a reload.
+ *
+ * <p>This class is thread-safe.
  */
 public final class CsvObservanceLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CsvObservanceLoader.class);
 
+    private static final Map<String, ObservanceData<?>> RELOADABLE = new ConcurrentHashMap<>();
+    private static final List<ObservanceDataListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile ObservanceDataDirectory directory;
+
     private CsvObservanceLoader() {}
 
     /**
@@ -72,9 +98,7 @@ public final class CsvObservanceLoader {
      * @throws ExceptionInInitializerError wrapping {@link IOException} on read failure
      */
     public static Map<Integer, LocalDate> loadSingle(Class<?> anchor, String classpathResource) {
-        Map<Integer, LocalDate> result = new LinkedHashMap<>();
-        scan(anchor, classpathResource, result::put);
-        return Collections.unmodifiableMap(result);
+        return single(accumulator -> scan(anchor, classpathResource, accumulator));
     }
 
     /**
@@ -90,50 +114,233 @@ public final class CsvObservanceLoader {
      * @throws ExceptionInInitializerError wrapping {@link IOException} on read failure
      */
     public static Map<Integer, List<LocalDate>> loadMultiple(Class<?> anchor, String classpathResource) {
+        return multiple(accumulator -> scan(anchor, classpathResource, accumulator));
+    }
+
+    /**
+     * Get the reloadable handle on a CSV where each year maps to exactly one
+     * date, loading it on first use. The same handle is returned for the same
+     * anchor package and resource.
+     *
+     * @param anchor   class used to resolve the classpath resource
+     * @param resource resource name, relative to {@code anchor}'s package; a
+     *                 file of this name in an open {@link ObservanceDataDirectory}
+     *                 takes precedence
+     * @return reloadable table, as would be returned by {@link #loadSingle}
+     * @throws IllegalStateException if the resource is not found
+     * @see #loadSingle(Class, String)
+     */
+    public static ObservanceData<LocalDate> reloadableSingle(Class<?> anchor, String resource) {
+        return reloadable(anchor, resource, CsvObservanceLoader::single, YearTable::of);
+    }
+
+    /**
+     * Get the reloadable handle on a CSV where each year may map to multiple
+     * dates, loading it on first use. The same handle is returned for the
+     * same anchor package and resource.
+     *
+     * @param anchor   class used to resolve the classpath resource
+     * @param resource resource name, relative to {@code anchor}'s package; a
+     *                 file of this name in an open {@link ObservanceDataDirectory}
+     *                 takes precedence
+     * @return reloadable table, as would be returned by {@link #loadMultiple}
+     * @throws IllegalStateException if the resource is not found
+     * @see #loadMultiple(Class, String)
+     */
+    public static ObservanceData<List<LocalDate>> reloadableMultiple(Class<?> anchor, String resource) {
+        return reloadable(anchor, resource, CsvObservanceLoader::multiple, null);
+    }
+
+    /**
+     * Register a listener to be notified when reloadable data changes.
+     *
+     * @param listener listener to add
+     */
+    public static void addListener(ObservanceDataListener listener) {
+        LISTENERS.add(requireNonNull(listener, "Argument 'listener' cannot be null"));
+    }
+
+    /**
+     * Deregister a listener added by {@link #addListener}.
+     *
+     * @param listener listener to remove
+     */
+    public static void removeListener(ObservanceDataListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> ObservanceData<V> reloadable(
+            Class<?> anchor, String resource,
+            Function<Consumer<BiConsumer<Integer, LocalDate>>, Map<Integer, V>> builder,
+            Function<Map<Integer, V>, YearTable> tabulator) {
+        requireNonNull(anchor, "Argument 'anchor' cannot be null");
+        requireNonNull(resource, "Argument 'resource' cannot be null");
+        if (resource.indexOf('/') >= 0) {
+            throw new IllegalArgumentException("Reloadable resource '" + resource + "' must be relative to its anchor's package");
+        }
+        return (ObservanceData<V>) RELOADABLE.computeIfAbsent(anchor.getPackageName() + '/' + resource,
+            key -> new ObservanceData<>(resource,
+                () -> builder.apply(accumulator -> scanCurrent(anchor, resource, accumulator)), tabulator));
+    }
+
+    private static Map<Integer, LocalDate> single(Consumer<BiConsumer<Integer, LocalDate>> source) {
+        Map<Integer, LocalDate> result = new LinkedHashMap<>();
+        source.accept(result::put);
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<Integer, List<LocalDate>> multiple(Consumer<BiConsumer<Integer, LocalDate>> source) {
         Map<Integer, List<LocalDate>> result = new HashMap<>();
-        scan(anchor, classpathResource,
-                (year, date) -> result.computeIfAbsent(year, k -> new ArrayList<>()).add(date));
+        source.accept((year, date) -> result.computeIfAbsent(year, k -> new ArrayList<>()).add(date));
         Map<Integer, List<LocalDate>> frozen = HashMap.newHashMap(result.size());
         result.forEach((year, dates) -> frozen.put(year, Collections.unmodifiableList(new ArrayList<>(dates))));
         return Collections.unmodifiableMap(frozen);
     }
 
+    private static void scanCurrent(Class<?> anchor, String resource, BiConsumer<Integer, LocalDate> accumulator) {
+        final ObservanceDataDirectory source = directory;
+        if (source != null && source.provides(resource)) {
+            try {
+                source.read(resource, accumulator);
+                return;
+            } catch (IOException e) {
+                LOGGER.error("Failed to load observance data from {} in {}", resource, source.getDirectory(), e);
+                throw new UncheckedIOException(e);
+            }
+        }
+        scan(anchor, resource, accumulator);
+    }
+
+    // -------------------------------------------------------------------------
+    // Reloading, driven by ObservanceDataDirectory
+    // -------------------------------------------------------------------------
+
+    static synchronized void install(ObservanceDataDirectory source) {
+        if (directory != null) {
+            throw new IllegalStateException("Observance data directory " + directory.getDirectory() + " is already open");
+        }
+        directory = source;
+    }
+
+    static synchronized boolean uninstall(ObservanceDataDirectory source) {
+        if (directory != source) return false;
+        directory = null;
+        return true;
+    }
+
+    static boolean isInstalled(ObservanceDataDirectory source) {
+        return directory == source;
+    }
+
+    /**
+     * Reload the tables of the given resource name and notify listeners of
+     * the years changed.
+     */
+    static Set<Integer> reload(String resource) {
+        final Set<Integer> changed = new TreeSet<>();
+        for (ObservanceData<?> data : RELOADABLE.values()) {
+            if (data.getResource().equals(resource)) {
+                changed.addAll(data.reload());
+            }
+        }
+        if (changed.isEmpty()) return Set.of();
+
+        final Set<Integer> years = Collections.unmodifiableSet(changed);
+        LOGGER.info("Reloaded observance data from {}; changed years {}", resource, years);
+        for (ObservanceDataListener listener : LISTENERS) {
+            listener.observanceDataChanged(resource, years);
+        }
+        return years;
+    }
+
+    static Map<String, Set<Integer>> reloadAll() {
+        final Set<String> resources = new TreeSet<>();
+        RELOADABLE.values().forEach(data -> resources.add(data.getResource()));
+        final Map<String, Set<Integer>> changed = new TreeMap<>();
+        for (String resource : resources) {
+            final Set<Integer> years = reload(resource);
+            if (!years.isEmpty()) changed.put(resource, years);
+        }
+        return Collections.unmodifiableMap(changed);
+    }
+
     private static void scan(Class<?> anchor, String classpathResource,
                              BiConsumer<Integer, LocalDate> accumulator) {
+        final DataLoadEvent event = new DataLoadEvent();
+        event.begin();
+        final long start = Instrumentation.isEnabled() ? System.nanoTime() : 0L;
+        final int[] rows = new int[1];
+        final BiConsumer<Integer, LocalDate> counting = accumulator.andThen((year, date) -> rows[0]++);
+        final URL csv = classpathResource.indexOf('/') < 0 ? anchor.getResource(classpathResource) : null;
+        final boolean compiled = csv != null
+                && CompiledObservanceData.forPackage(anchor).scan(classpathResource, csv, counting);
+        final int malformedLines = compiled ? 0 : read(anchor, classpathResource, counting);
+        if (Instrumentation.isEnabled()) {
+            Instrumentation.metrics().dataLoaded(classpathResource, rows[0], System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.resource = classpathResource;
+            event.compiled = compiled;
+            event.rows = rows[0];
+            event.malformedLines = malformedLines;
+            event.commit();
+        }
+    }
+
+    private static int read(Class<?> anchor, String classpathResource,
+                            BiConsumer<Integer, LocalDate> accumulator) {
         InputStream is = anchor.getResourceAsStream(classpathResource);
         if (is == null) {
             throw new IllegalStateException("Required resource not found: " + classpathResource);
         }
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            int lineNumber = 0;
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                line = line.strip();
-                if (!line.isEmpty() && !line.startsWith("#")) {
-                    parseLine(line, lineNumber, classpathResource, accumulator);
-                }
-            }
+            return parse(reader, classpathResource, accumulator);
         } catch (IOException e) {
             LOGGER.error("Failed to load observance data from {}", classpathResource, e);
             throw new ExceptionInInitializerError(e);
         }
     }
 
-    private static void parseLine(String line, int lineNumber, String classpathResource,
-                                  BiConsumer<Integer, LocalDate> accumulator) {
+    /**
+     * Parses CSV rows from the given reader, passing each valid row to the
+     * accumulator in file order. The build-time compiler of
+     * {@code observances.bin} applies the same rules.
+     *
+     * @return number of malformed lines skipped
+     */
+    static int parse(BufferedReader reader, String resourceName,
+                     BiConsumer<Integer, LocalDate> accumulator) throws IOException {
+        int lineNumber = 0;
+        int malformedLines = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (!line.isEmpty() && !line.startsWith("#")
+                    && !parseLine(line, lineNumber, resourceName, accumulator)) {
+                malformedLines++;
+            }
+        }
+        return malformedLines;
+    }
+
+    private static boolean parseLine(String line, int lineNumber, String classpathResource,
+                                     BiConsumer<Integer, LocalDate> accumulator) {
         String[] parts = line.split(",", 3);
         if (parts.length < 2) {
             LOGGER.warn("Skipping malformed line {} in {}: '{}'", lineNumber, classpathResource, line);
-            return;
+            return false;
         }
         try {
             int year = Integer.parseInt(parts[0].strip());
             LocalDate date = LocalDate.parse(parts[1].strip());
             accumulator.accept(year, date);
+            return true;
         } catch (NumberFormatException | DateTimeParseException e) {
             LOGGER.warn("Skipping malformed line {} in {}: '{}' — {}",
                     lineNumber, classpathResource, line, e.getMessage());
+            return false;
         }
     }
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a table load by {@link CsvObservanceLoader}.
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@Name("org.holiday.calendar.DataLoad")
+@Label("Observance Data Load")
+@Category("Holiday Calendar")
+@Description("Load of an observance date table from a classpath resource")
+final class DataLoadEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Compiled")
+    @Description("Whether the table was read from compiled observance data instead of the CSV")
+    boolean compiled;
+
+    @Label("Rows")
+    @Description("Number of rows loaded")
+    int rows;
+
+    @Label("Malformed Lines")
+    @Description("Number of CSV lines skipped as malformed")
+    int malformedLines;
+
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reloadable handle on an observance date table loaded by
+ * {@link CsvObservanceLoader}, for data which authorities announce after
+ * release, such as moon-sighted Islamic holidays.
+ *
+ * <p>The table is an immutable map of year to value which is replaced as a
+ * whole when the resource is reloaded, either from an
+ * {@link ObservanceDataDirectory} or from the bundled resource. Readers never
+ * lock and always see one complete version of the table; callers reading
+ * several years should take one {@link #get() snapshot} and read from it.</p>
+ *
+ * <p>A single-date table is also held as a {@link #table() YearTable}, built
+ * with each version, for lookups on the calculation path.</p>
+ *
+ * <p>Handles are obtained from {@link CsvObservanceLoader#reloadableSingle} or
+ * {@link CsvObservanceLoader#reloadableMultiple}, which return the same
+ * handle for the same resource, and are thread-safe.</p>
+ *
+ * @param <V> type of the value held for each year
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class ObservanceData<V> {
+
+    private final String resource;
+    private final Supplier<Map<Integer, V>> loader;
+    private final Function<Map<Integer, V>, YearTable> tabulator;
+    private volatile Version<V> current;
+
+    ObservanceData(String resource, Supplier<Map<Integer, V>> loader,
+                   Function<Map<Integer, V>, YearTable> tabulator) {
+        this.resource = resource;
+        this.loader = loader;
+        this.tabulator = tabulator;
+        swap(loader.get());
+    }
+
+    /**
+     * Get the name of the resource from which this table is loaded, relative
+     * to the package of its anchor class.
+     *
+     * @return resource name
+     */
+    public String getResource() { return resource; }
+
+    /**
+     * Get the current version of the table.
+     *
+     * @return unmodifiable map of year to value
+     */
+    public Map<Integer, V> get() {
+        return current.snapshot();
+    }
+
+    /**
+     * Get the value for the given year in the current version of the table.
+     *
+     * @param year year to look up
+     * @return value for {@code year}, or {@code null} if there is none
+     */
+    public V get(int year) {
+        return current.snapshot().get(year);
+    }
+
+    /**
+     * Get the current version of a single-date table as a {@link YearTable}.
+     *
+     * @return year table of the current version
+     * @throws UnsupportedOperationException if this is a multi-date table
+     * @see CsvObservanceLoader#reloadableSingle(Class, String)
+     */
+    public YearTable table() {
+        final YearTable result = current.table();
+        if (result == null) {
+            throw new UnsupportedOperationException("Observance data '" + resource + "' holds multiple dates per year");
+        }
+        return result;
+    }
+
+    /**
+     * Load the table again and swap it in.
+     *
+     * @return years whose values were added, changed or removed, in ascending
+     *         order
+     */
+    synchronized Set<Integer> reload() {
+        final Map<Integer, V> previous = current.snapshot();
+        final Map<Integer, V> loaded = loader.get();
+        swap(loaded);
+
+        final Set<Integer> changed = new TreeSet<>();
+        for (Map.Entry<Integer, V> entry : loaded.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (Integer year : previous.keySet()) {
+            if (!loaded.containsKey(year)) {
+                changed.add(year);
+            }
+        }
+        return Collections.unmodifiableSet(changed);
+    }
+
+    private void swap(Map<Integer, V> snapshot) {
+        current = new Version<>(snapshot, tabulator != null ? tabulator.apply(snapshot) : null);
+    }
+
+    @Override
+    public String toString() {
+        return "ObservanceData[resource='" + resource + "', years=" + current.snapshot().size() + "]";
+    }
+
+    /**
+     * One version of the table, published to readers in a single write so
+     * that the map and its year table always agree.
+     */
+    private record Version<V>(Map<Integer, V> snapshot, YearTable table) {}
+
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * External directory of observance CSV files which take precedence over the
+ * bundled {@link ObservanceData reloadable} resources of the same file name,
+ * so that newly announced dates can be picked up by a running application
+ * without a release.
+ *
+ * <p>Opening a directory reloads every table it provides a file for. After
+ * that, tables are reloaded when {@link #reload()} is called or, once
+ * {@link #watch() watching}, whenever a file in the directory is created,
+ * modified or deleted. Deleting a file reverts its tables to the bundled
+ * data, as does {@link #close() closing} the directory. Each reload swaps in
+ * a complete new table and notifies the
+ * {@link CsvObservanceLoader#addListener(ObservanceDataListener) listeners}
+ * of the years which changed, so that only those years are recalculated.</p>
+ *
+ * <p>Files should be replaced atomically, e.g. by moving a completed file
+ * into the directory, so that a partially written file is never read.
+ * At most one directory is open at a time.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class ObservanceDataDirectory implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObservanceDataDirectory.class);
+
+    private final Path directory;
+    private WatchService watchService;
+
+    private ObservanceDataDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Open the given directory as the source of observance data overriding
+     * the bundled resources, and reload the tables it provides.
+     *
+     * @param directory directory holding observance CSV files
+     * @return open observance data directory
+     * @throws NotDirectoryException if {@code directory} is not a directory
+     * @throws IllegalStateException if another directory is already open
+     */
+    public static ObservanceDataDirectory open(Path directory) throws NotDirectoryException {
+        requireNonNull(directory, "Argument 'directory' cannot be null");
+        if (!Files.isDirectory(directory)) {
+            throw new NotDirectoryException(directory.toString());
+        }
+        final ObservanceDataDirectory result = new ObservanceDataDirectory(directory.toAbsolutePath());
+        CsvObservanceLoader.install(result);
+        result.reload();
+        return result;
+    }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Watch the directory for changes on a daemon thread, reloading the
+     * tables of each file created, modified or deleted. Has no effect if the
+     * directory is already being watched.
+     *
+     * @return this directory
+     * @throws IOException if the directory cannot be watched
+     * @throws IllegalStateException if this directory has been closed
+     */
+    public synchronized ObservanceDataDirectory watch() throws IOException {
+        if (!CsvObservanceLoader.isInstalled(this)) {
+            throw new IllegalStateException("Observance data directory " + directory + " has been closed");
+        }
+        if (watchService == null) {
+            final WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service,
+                               StandardWatchEventKinds.ENTRY_CREATE,
+                               StandardWatchEventKinds.ENTRY_MODIFY,
+                               StandardWatchEventKinds.ENTRY_DELETE);
+            final Thread watcher = new Thread(() -> processEvents(service), "observance-data-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            watchService = service;
+        }
+        return this;
+    }
+
+    /**
+     * Reload every table.
+     *
+     * @return years changed, by resource name, for each table that changed
+     */
+    public Map<String, Set<Integer>> reload() {
+        return CsvObservanceLoader.reloadAll();
+    }
+
+    /**
+     * Reload the tables of the given resource name.
+     *
+     * @param resource resource (file) name
+     * @return years changed, in ascending order; empty if nothing changed or
+     *         no table is loaded from {@code resource}
+     */
+    public Set<Integer> reload(String resource) {
+        return CsvObservanceLoader.reload(requireNonNull(resource, "Argument 'resource' cannot be null"));
+    }
+
+    /**
+     * Stop watching and revert every table to its bundled data.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to stop watching observance data directory {}", directory, e);
+                }
+                watchService = null;
+            }
+        }
+        if (CsvObservanceLoader.uninstall(this)) {
+            reload();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ObservanceDataDirectory[" + directory + "]";
+    }
+
+    /**
+     * Determine whether this directory holds a file for the given resource.
+     */
+    boolean provides(String resource) {
+        return resource.indexOf('/') < 0 && Files.isRegularFile(directory.resolve(resource));
+    }
+
+    /**
+     * Parse this directory's file for the given resource.
+     *
+     * @return number of malformed lines skipped
+     */
+    int read(String resource, BiConsumer<Integer, LocalDate> accumulator) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(resource), StandardCharsets.UTF_8)) {
+            return CsvObservanceLoader.parse(reader, resource, accumulator);
+        }
+    }
+
+    private void processEvents(WatchService service) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    try {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            reload();
+                        } else if (event.context() instanceof Path file) {
+                            reload(file.toString());
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.error("Failed to reload observance data from {}", directory, e);
+                    }
+                }
+                if (!key.reset()) {
+                    LOGGER.warn("Observance data directory {} is no longer accessible", directory);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import java.util.Set;
+
+/**
+ * Listener notified when {@link ObservanceData reloadable observance data} is
+ * reloaded with different values.
+ *
+ * @see CsvObservanceLoader#addListener(ObservanceDataListener)
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+@FunctionalInterface
+public interface ObservanceDataListener {
+
+    /**
+     * Invoked after a new version of a table has been swapped in, on the
+     * thread which reloaded it.
+     *
+     * @param resource name of the reloaded resource
+     * @param years    years whose values were added, changed or removed, in
+     *                 ascending order; never empty
+     */
+    void observanceDataChanged(String resource, Set<Integer> years);
+
+}
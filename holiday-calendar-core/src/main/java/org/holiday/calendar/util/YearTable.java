@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable table of at most one date per year, held as epoch days in a dense
+ * primitive array indexed by offset from the first year. Looking up a year is
+ * a bounds check and an array read, without boxing the year or hashing.
+ *
+ * <p>Built from the single-date observance tables of
+ * {@link CsvObservanceLoader}, whose years are contiguous or nearly so; years
+ * without a date within the span hold the {@link #MISSING} sentinel.</p>
+ *
+ * @see ObservanceData#table()
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class YearTable {
+
+    /** Epoch day reported for a year which has no date. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final YearTable EMPTY = new YearTable(0, new int[0], 0);
+
+    private final int firstYear;
+    private final int[] epochDays;
+    private final int size;
+
+    private YearTable(int firstYear, int[] epochDays, int size) {
+        this.firstYear = firstYear;
+        this.epochDays = epochDays;
+        this.size = size;
+    }
+
+    /**
+     * Build a table holding the given dates.
+     *
+     * @param dates map of year to date
+     * @return year table
+     * @throws NullPointerException if {@code dates} or any year or date is null
+     */
+    public static YearTable of(Map<Integer, LocalDate> dates) {
+        requireNonNull(dates, "Argument 'dates' cannot be null");
+        if (dates.isEmpty()) return EMPTY;
+
+        int firstYear = Integer.MAX_VALUE;
+        int lastYear = Integer.MIN_VALUE;
+        for (int year : dates.keySet()) {
+            firstYear = Math.min(firstYear, year);
+            lastYear = Math.max(lastYear, year);
+        }
+        final int[] epochDays = new int[Math.toIntExact((long) lastYear - firstYear + 1)];
+        Arrays.fill(epochDays, MISSING);
+        for (Map.Entry<Integer, LocalDate> entry : dates.entrySet()) {
+            epochDays[entry.getKey() - firstYear] = Math.toIntExact(entry.getValue().toEpochDay());
+        }
+        return new YearTable(firstYear, epochDays, dates.size());
+    }
+
+    /**
+     * Determine whether the table holds a date for the given year.
+     *
+     * @param year year to look up
+     * @return {@code true} if there is a date for {@code year}
+     */
+    public boolean contains(int year) {
+        return epochDay(year) != MISSING;
+    }
+
+    /**
+     * Get the date for the given year as an epoch day.
+     *
+     * @param year year to look up
+     * @return day count from 1970-01-01 ({@link LocalDate#toEpochDay()}), or
+     *         {@link #MISSING} if there is no date for {@code year}
+     */
+    public int epochDay(int year) {
+        final int offset = year - firstYear;
+        return offset >= 0 && offset < epochDays.length ? epochDays[offset] : MISSING;
+    }
+
+    /**
+     * Get the date for the given year.
+     *
+     * @param year year to look up
+     * @return date for {@code year}, or {@code null} if there is none
+     */
+    public LocalDate get(int year) {
+        final int epochDay = epochDay(year);
+        return epochDay == MISSING ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Get the first year spanned by the table.
+     *
+     * @return first year, or {@code 0} if the table is empty
+     */
+    public int getFirstYear() { return firstYear; }
+
+    /**
+     * Get the last year spanned by the table; years between the first and
+     * last without a date hold {@link #MISSING}.
+     *
+     * @return last year, less than {@link #getFirstYear()} if the table is empty
+     */
+    public int getLastYear() { return firstYear + epochDays.length - 1; }
+
+    /**
+     * Get the number of years which have a date.
+     *
+     * @return number of dates in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return size == 0
+            ? "YearTable[]"
+            : "YearTable[years=" + firstYear + ".." + (firstYear + epochDays.length - 1) + ", size=" + size + "]";
+    }
+
+}
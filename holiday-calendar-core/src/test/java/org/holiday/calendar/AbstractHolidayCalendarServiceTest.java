@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class AbstractHolidayCalendarServiceTest {
+
+    private static HolidayCalendar calendar(String code) {
+        return HolidayCalendar.builder().code(code).name("Service Test Calendar").build();
+    }
+
+    @Test(groups = "core")
+    public void testBuildOnce_CreatesCalendarOnce() {
+        AtomicInteger creations = new AtomicInteger();
+        HolidayCalendarService service = new AbstractHolidayCalendarService("TEST", "Service Test Calendar") {
+            @Override
+            public HolidayCalendar getHolidayCalendar() {
+                return buildOnce(() -> {
+                    creations.incrementAndGet();
+                    return calendar("TEST");
+                });
+            }
+        };
+
+        assertSame(service.getHolidayCalendar(), service.getHolidayCalendar());
+        assertEquals(creations.get(), 1);
+    }
+
+    @Test(groups = "core")
+    public void testGetHolidayCalendar_WithoutBuildOnce() {
+        // Subclasses written before buildOnce() build a new calendar on every call
+        HolidayCalendarService service = new AbstractHolidayCalendarService("TEST", "Service Test Calendar") {
+            @Override
+            public HolidayCalendar getHolidayCalendar() {
+                return calendar("TEST");
+            }
+        };
+
+        assertEquals(service.getHolidayCalendar().getCode(), "TEST");
+        assertNotSame(service.getHolidayCalendar(), service.getHolidayCalendar());
+    }
+
+}
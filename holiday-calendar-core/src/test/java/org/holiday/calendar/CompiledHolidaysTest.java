@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.testng.annotations.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.holiday.calendar.TestObjects.*;
+import static org.testng.Assert.*;
+
+public class CompiledHolidaysTest {
+
+    private static HolidayCalendar createCalendar(DayOfWeek... weekend) {
+        return HolidayCalendar.builder()
+            .code("TEST")
+            .name("Compiled Holidays Test Calendar")
+            .dateRoll(createDateRollUS())
+            .weekendDays(List.of(weekend))
+            .yearCacheSize(0)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .holiday(new FixedHoliday("New Year's Eve", "", Month.DECEMBER, 31))
+            .holiday(new FixedHoliday("Independence Day", "", Month.JULY, 4))
+            .holiday(new FixedHoliday("Day After Independence Day", "", Month.JULY, 5))
+            .holiday(new FixedHoliday("Independence Day (Unrolled)", "", MonthDay.of(Month.JULY, 4), false))
+            .holiday(new FixedHoliday("Veterans Day", "", Month.NOVEMBER, 11))
+            .holiday(new FixedHoliday("Christmas Eve", "", Month.DECEMBER, 24))
+            .holiday(new FixedHoliday("Christmas Day", "", Month.DECEMBER, 25))
+            .holiday(new FloatingHoliday("Martin Luther King Jr. Day", "", createObservanceMlkDay()))
+            .holiday(new FloatingHoliday("Presidents Day", "", createObservancePresidentsDay()))
+            .holiday(new FloatingHoliday("Memorial Day", "", createObservanceMemorialDay()))
+            .holiday(new FloatingHoliday("Labor Day", "", createObservanceLaborDay()))
+            .holiday(new FloatingHoliday("Columbus Day", "", createObservanceColumbusDay()))
+            .holiday(new FloatingHoliday("Thanksgiving", "", createObservanceThanksgiving()))
+            .holiday(new FloatingHoliday("Leap Day", "", year -> Year.isLeap(year) ? LocalDate.of(year, 2, 29) : null))
+            .holiday(new SpecialAnniversary("Day of Mourning", "", LocalDate.of(2018, Month.DECEMBER, 5)))
+            .holiday(new SpecialAnniversary("Jubilee", "", LocalDate.of(2022, Month.JUNE, 3)))
+            .holiday(new SpecialAnniversary("Jubilee Holiday", "", LocalDate.of(2022, Month.JUNE, 3)))
+            .holiday(new SpecialAnniversary("Coronation", "", LocalDate.of(2023, Month.MAY, 8)))
+            .build();
+    }
+
+    /**
+     * Reference algorithm: observed dates of every holiday, stable-sorted by
+     * date in holiday set iteration order.
+     */
+    private static List<HolidayDate> expected(HolidayCalendar calendar, int year) {
+        return calendar.getHolidays().stream()
+            .<HolidayDate>mapMulti((holiday, sink) ->
+                holiday.dateForYear(year).ifPresent(date ->
+                    sink.accept(new HolidayDate(holiday, holiday.isRollable() && calendar.isWeekend(date)
+                        ? calendar.getDateRoll().rollToObservedDate(date)
+                        : date))))
+            .sorted(Comparator.comparing(HolidayDate::getDate))
+            .toList();
+    }
+
+    @Test(groups = "core")
+    public void testCalculate_MatchesStableSort() {
+        HolidayCalendar calendar = createCalendar(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        for (int year = 1950; year <= 2100; year++) {
+            assertEquals(calendar.calculate(year), expected(calendar, year), "Mismatch in " + year);
+        }
+    }
+
+    @Test(groups = "core")
+    public void testCalculate_MatchesStableSort_CustomWeekend() {
+        HolidayCalendar calendar = createCalendar(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        for (int year = 1950; year <= 2100; year++) {
+            assertEquals(calendar.calculate(year), expected(calendar, year), "Mismatch in " + year);
+        }
+    }
+
+    @Test(groups = "core")
+    public void testCalculate_SpecialAnniversaryOnlyInItsYear() {
+        HolidayCalendar calendar = createCalendar(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        assertEquals(calendar.calculate(2022).stream().filter(hd -> hd.getHoliday().getName().startsWith("Jubilee")).count(), 2L);
+        assertTrue(calendar.calculate(2021).stream().noneMatch(hd -> hd.getHoliday() instanceof SpecialAnniversary));
+    }
+
+    @Test(groups = "core")
+    public void testCalculate_EmptyCalendar() {
+        HolidayCalendar calendar = HolidayCalendar.builder().code("EMPTY").name("Empty").build();
+        assertTrue(calendar.calculate(2025).isEmpty());
+    }
+
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.holiday.calendar.impl.HolidayCalendarServiceEXAMPLE;
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Month;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class FlightRecorderEventsTest {
+
+    @Test(groups = "core")
+    public void testCalculateEmitsEvent() throws IOException {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+            .code("JFR")
+            .name("Flight Recorder Test Calendar")
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .holiday(new FixedHoliday("Christmas Day", "", Month.DECEMBER, 25))
+            .build();
+
+        List<RecordedEvent> events = record("org.holiday.calendar.Calculate", () -> calendar.calculate(2026));
+
+        RecordedEvent event = events.stream()
+            .filter(e -> "JFR".equals(e.getString("code")))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(event.getInt("year"), 2026);
+        assertEquals(event.getInt("holidays"), 2);
+    }
+
+    @Test(groups = "core")
+    public void testCalendarBuildEmitsEvent() throws IOException {
+        List<RecordedEvent> events = record("org.holiday.calendar.CalendarBuild",
+                                            () -> new HolidayCalendarServiceEXAMPLE().getHolidayCalendar());
+
+        assertEquals(events.size(), 1);
+        assertEquals(events.getFirst().getString("code"), "EXAMPLE");
+        assertEquals(events.getFirst().getClass("service").getName(), HolidayCalendarServiceEXAMPLE.class.getName());
+    }
+
+    @Test(groups = "core")
+    public void testDataLoadEmitsEventWithMalformedLineCount() throws IOException {
+        String resource = "/org/holiday/calendar/util/csv-malformed-date.csv";
+        List<RecordedEvent> events = record("org.holiday.calendar.DataLoad",
+                                            () -> CsvObservanceLoader.loadSingle(FlightRecorderEventsTest.class, resource));
+
+        assertEquals(events.size(), 1);
+        assertEquals(events.getFirst().getString("resource"), resource);
+        assertFalse(events.getFirst().getBoolean("compiled"));
+        assertEquals(events.getFirst().getInt("rows"), 2);
+        assertEquals(events.getFirst().getInt("malformedLines"), 1);
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = Files.createTempFile("holiday-calendar", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            // User-defined events are enabled by default, so keep only the one under test
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -2,8 +2,12 @@ package org.holiday.calendar;
 
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import static org.testng.Assert.*;
 
@@ -51,4 +55,104 @@ public class HolidayCalendarFactoryTest {
         fail("Expected HolidayCalendarNotFoundException to be thrown for code " + INVALID_CODE);
     }
 
+    @Test
+    public void testGetServiceIsCaseInsensitive() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        HolidayCalendarService service = factory.getService(CODE);
+        assertSame(factory.getService(CODE.toLowerCase()), service);
+    }
+
+    @Test
+    public void testGetServiceReturnsSameInstance() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        assertSame(factory.getService(CODE), factory.getService(CODE));
+    }
+
+    @Test
+    public void testServiceBuildsHolidayCalendarOnce() {
+        HolidayCalendarService service = new HolidayCalendarFactory().getService(CODE);
+        assertSame(service.getHolidayCalendar(), service.getHolidayCalendar());
+    }
+
+    @Test
+    public void testCreateJointIndexIsCachedByCodeSet() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        JointCalendarIndex joint = factory.createJointIndex(CODE);
+        assertSame(factory.createJointIndex(CODE.toLowerCase(), CODE), joint);
+        assertNotSame(factory.createJointIndex(JointCalendarIndex.Combination.ANY, CODE), joint);
+        assertSame(joint.getComponents().getFirst().getCalendar(), factory.create(CODE));
+    }
+
+    @Test(expectedExceptions = HolidayCalendarNotFoundException.class)
+    public void testCreateJointIndexInvalidCodeThrowsException() {
+        new HolidayCalendarFactory().createJointIndex(CODE, "INVALID");
+    }
+
+    @Test
+    public void testRefreshDiscoversServicesAgain() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        HolidayCalendarService service = factory.getService(CODE);
+        HolidayCalendar calendar = factory.create(CODE);
+
+        factory.refresh();
+
+        assertNotSame(factory.getService(CODE), service);
+        assertNotSame(factory.create(CODE), calendar);
+        assertTrue(factory.listAvailableCodes().contains(CODE));
+    }
+
+    @Test
+    public void testCreateRacingRefreshDoesNotCacheStaleCalendar() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory() {
+            private boolean refreshed;
+
+            @Override
+            public HolidayCalendarService getService(String code) {
+                HolidayCalendarService service = super.getService(code);
+                if (!refreshed) {
+                    refreshed = true;
+                    refresh();   // registry replaced while the calendar is being built
+                }
+                return service;
+            }
+        };
+        HolidayCalendar stale = factory.create(CODE);
+
+        HolidayCalendar current = factory.create(CODE);
+        assertNotSame(current, stale);
+        assertSame(current, factory.getService(CODE).getHolidayCalendar());
+    }
+
+    @Test
+    public void testWarmUpCreatesCalendarsAndReportsTimings() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        Map<String, Duration> timings = factory.warmUp(List.of(CODE, CODE), 2000, 2030);
+
+        assertEquals(timings.keySet(), Set.of(CODE));
+        assertFalse(timings.get(CODE).isNegative());
+        assertSame(factory.create(CODE), factory.getService(CODE).getHolidayCalendar());
+    }
+
+    @Test
+    public void testWarmUpOnExecutorRunsOneTaskPerCode() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        List<Runnable> submitted = new ArrayList<>();
+        Map<String, Duration> timings = factory.warmUp(List.of(CODE), 2026, 2026, task -> {
+            submitted.add(task);
+            task.run();
+        });
+        assertEquals(submitted.size(), 1);
+        assertEquals(timings.keySet(), Set.of(CODE));
+    }
+
+    @Test(expectedExceptions = HolidayCalendarNotFoundException.class)
+    public void testWarmUpInvalidCodeThrowsException() {
+        new HolidayCalendarFactory().warmUp(List.of(CODE, "INVALID"), 2000, 2030);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWarmUpInvalidRangeThrowsException() {
+        new HolidayCalendarFactory().warmUp(List.of(CODE), 2030, 2000);
+    }
+
 }
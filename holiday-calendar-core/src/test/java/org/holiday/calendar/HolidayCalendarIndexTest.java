@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.holiday.calendar.TestObjects.createDateRollUS;
+import static org.holiday.calendar.TestObjects.createObservanceLaborDay;
+import static org.testng.Assert.*;
+
+public class HolidayCalendarIndexTest {
+
+    private HolidayCalendar calendar;
+
+    @BeforeClass
+    public void setupCalendar() {
+        calendar = HolidayCalendar.builder()
+            .code("TEST")
+            .name("Index Test Calendar")
+            .dateRoll(createDateRollUS())
+            .weekendDays(HolidayCalendar.STANDARD_WEEKEND)
+            .indexWindow(2020, 2025)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .holiday(new FloatingHoliday("Labor Day", "", createObservanceLaborDay()))
+            .build();
+    }
+
+    @Test(groups = "core")
+    public void testGetIndex_UsesConfiguredWindow() {
+        HolidayCalendarIndex index = calendar.getIndex();
+        assertEquals(index.getFromYear(), 2020);
+        assertEquals(index.getToYear(), 2025);
+        assertSame(index.getCalendar(), calendar);
+        assertSame(calendar.getIndex(), index, "Index should be built once and reused");
+    }
+
+    @Test(groups = "core")
+    public void testIsHoliday_InsideWindow() {
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, Month.JANUARY, 1)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, Month.SEPTEMBER, 2)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, Month.SEPTEMBER, 3)));
+    }
+
+    @Test(groups = "core")
+    public void testIsHoliday_RolledAcrossYearBoundary() {
+        // 2022-01-01 is a Saturday, observed on Friday 2021-12-31
+        assertTrue(calendar.isHoliday(LocalDate.of(2021, Month.DECEMBER, 31)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2022, Month.JANUARY, 1)));
+    }
+
+    @Test(groups = "core")
+    public void testIsHoliday_RolledIntoWindowFromFollowingYear() {
+        // 2028-01-01 is a Saturday, observed on Friday 2027-12-31 (last day of the window)
+        HolidayCalendarIndex index = HolidayCalendarIndex.of(calendar, 2026, 2027);
+        assertTrue(index.isHoliday(LocalDate.of(2027, Month.DECEMBER, 31)));
+        assertFalse(index.isHoliday(LocalDate.of(2028, Month.JANUARY, 1)));
+    }
+
+    @Test(groups = "core")
+    public void testIsHoliday_OutsideWindow() {
+        // 2011-01-01 is a Saturday, observed on Friday 2010-12-31
+        assertTrue(calendar.isHoliday(LocalDate.of(2010, Month.DECEMBER, 31)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2050, Month.SEPTEMBER, 5)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2050, Month.SEPTEMBER, 6)));
+    }
+
+    @Test(groups = "core")
+    public void testIsHoliday_OutsideWindow_MoreYearsThanRetained() {
+        // Each year's Labor Day is answered correctly while older bitmaps are dropped
+        for (int pass = 0; pass < 2; pass++) {
+            for (int year = 2100; year < 2100 + 2 * HolidayCalendarIndex.OUT_OF_WINDOW_YEARS; year++) {
+                LocalDate laborDay = createObservanceLaborDay().apply(year);
+                assertTrue(calendar.isHoliday(laborDay), laborDay.toString());
+                assertFalse(calendar.isHoliday(laborDay.plusDays(1)), laborDay.plusDays(1).toString());
+            }
+        }
+    }
+
+    @Test(groups = "core")
+    public void testYearOf_MatchesLocalDate() {
+        for (long epochDay : new long[] {
+                LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay(), -719528, -1, 0, 365, 730, 10956, 11016}) {
+            for (long day = Math.max(epochDay - 400, LocalDate.MIN.toEpochDay());
+                 day <= Math.min(epochDay + 400, LocalDate.MAX.toEpochDay()); day++) {
+                LocalDate date = LocalDate.ofEpochDay(day);
+                assertEquals(BusinessDayIndex.yearOf(day), date.getYear(), date.toString());
+                assertEquals(BusinessDayIndex.startOfYear(date.getYear()), date.withDayOfYear(1).toEpochDay());
+            }
+        }
+    }
+
+    @Test(groups = "core")
+    public void testDefaultWindow_EndsAtDataCeiling() {
+        int currentYear = Year.now().getValue();
+        HolidayCalendarIndex index = HolidayCalendar.builder()
+            .code("TEST")
+            .name("Data Ceiling Test Calendar")
+            .dataValidThrough(currentYear + 5)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .build()
+            .getIndex();
+        assertEquals(index.getFromYear(), currentYear - HolidayCalendarIndex.DEFAULT_YEARS_BEFORE);
+        assertEquals(index.getToYear(), currentYear + 5);
+    }
+
+    @Test(groups = "core")
+    public void testIsWeekend() {
+        for (LocalDate date = LocalDate.of(1969, Month.DECEMBER, 1);
+             date.isBefore(LocalDate.of(1970, Month.FEBRUARY, 1));
+             date = date.plusDays(1)) {
+            boolean expected = date.getDayOfWeek() == DayOfWeek.SATURDAY
+                               || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            assertEquals(calendar.isWeekend(date), expected, "Mismatch on " + date);
+        }
+    }
+
+    @Test(groups = "core")
+    public void testIsWeekend_CustomWeekend() {
+        HolidayCalendar fridaySaturday = HolidayCalendar.builder()
+            .code("FS")
+            .name("Friday-Saturday Weekend")
+            .weekendDay(DayOfWeek.FRIDAY)
+            .weekendDay(DayOfWeek.SATURDAY)
+            .indexWindow(2024, 2024)
+            .build();
+        assertTrue(fridaySaturday.isWeekend(LocalDate.of(2024, Month.MAY, 3)));
+        assertTrue(fridaySaturday.isWeekend(LocalDate.of(2024, Month.MAY, 4)));
+        assertFalse(fridaySaturday.isWeekend(LocalDate.of(2024, Month.MAY, 5)));
+    }
+
+    @Test(groups = "core")
+    public void testIsBusinessDay() {
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, Month.SEPTEMBER, 2)));  // Labor Day
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, Month.SEPTEMBER, 7)));  // Saturday
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2024, Month.SEPTEMBER, 3)));
+    }
+
+    @Test(groups = "core")
+    public void testIndexMatchesCalculate() {
+        HolidayCalendarIndex index = HolidayCalendarIndex.of(calendar, 2000, 2030);
+        Set<LocalDate> expected = new HashSet<>();
+        calendar.calculate(1999, 2031).forEach(hd -> expected.add(hd.getDate()));
+
+        for (LocalDate date = LocalDate.of(1995, Month.JANUARY, 1);
+             date.isBefore(LocalDate.of(2036, Month.JANUARY, 1));
+             date = date.plusDays(1)) {
+            if (date.getYear() >= 2000 && date.getYear() <= 2030) {
+                assertEquals(index.isHoliday(date), expected.contains(date), "Mismatch on " + date);
+            }
+            assertEquals(index.isHoliday(date.toEpochDay()), index.isHoliday(date));
+        }
+    }
+
+    @Test(groups = "core")
+    public void testNextAndPreviousBusinessDay() {
+        // Friday 2024-08-30 -> Labor Day weekend -> Tuesday 2024-09-03
+        assertEquals(calendar.nextBusinessDay(LocalDate.of(2024, Month.AUGUST, 30)),
+                     LocalDate.of(2024, Month.SEPTEMBER, 3));
+        assertEquals(calendar.previousBusinessDay(LocalDate.of(2024, Month.SEPTEMBER, 3)),
+                     LocalDate.of(2024, Month.AUGUST, 30));
+        // Rolled New Year's Day observed on Friday 2021-12-31
+        assertEquals(calendar.nextBusinessDay(LocalDate.of(2021, Month.DECEMBER, 30)),
+                     LocalDate.of(2022, Month.JANUARY, 3));
+    }
+
+    @Test(groups = "core")
+    public void testAddBusinessDays() {
+        LocalDate friday = LocalDate.of(2024, Month.AUGUST, 30);
+        assertEquals(calendar.addBusinessDays(friday, 0), friday);
+        assertEquals(calendar.addBusinessDays(friday, 1), LocalDate.of(2024, Month.SEPTEMBER, 3));
+        assertEquals(calendar.addBusinessDays(friday, 2), LocalDate.of(2024, Month.SEPTEMBER, 4));
+        assertEquals(calendar.addBusinessDays(LocalDate.of(2024, Month.SEPTEMBER, 4), -2), friday);
+        // Saturday with n == 0 is returned unchanged
+        LocalDate saturday = LocalDate.of(2024, Month.AUGUST, 31);
+        assertEquals(calendar.addBusinessDays(saturday, 0), saturday);
+    }
+
+    @Test(groups = "core")
+    public void testBusinessDaysBetween() {
+        LocalDate friday = LocalDate.of(2024, Month.AUGUST, 30);
+        LocalDate wednesday = LocalDate.of(2024, Month.SEPTEMBER, 4);
+        assertEquals(calendar.businessDaysBetween(friday, wednesday), 2L);
+        assertEquals(calendar.businessDaysBetween(wednesday, friday), -2L);
+        assertEquals(calendar.businessDaysBetween(friday, friday), 0L);
+    }
+
+    @Test(groups = "core")
+    public void testBusinessDayArithmetic_MatchesDayByDay() {
+        // Window 2010-2012; the scan starts and ends outside it to exercise the fallback
+        HolidayCalendarIndex index = HolidayCalendarIndex.of(calendar, 2010, 2012);
+        LocalDate start = LocalDate.of(2008, Month.DECEMBER, 15);
+        LocalDate end = LocalDate.of(2014, Month.JANUARY, 15);
+
+        List<LocalDate> businessDays = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (!index.isWeekend(date) && !index.isHoliday(date)) {
+                businessDays.add(date);
+            }
+        }
+
+        int count = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            assertEquals(index.businessDaysBetween(start, date), count, "Count mismatch to " + date);
+            assertEquals(index.businessDaysBetween(date, start), -count, "Negated count mismatch to " + date);
+            if (count < businessDays.size() - 1) {
+                int next = businessDays.get(count).equals(date) ? count + 1 : count;
+                assertEquals(index.nextBusinessDay(date), businessDays.get(next), "Next mismatch after " + date);
+            }
+            if (count > 0) {
+                assertEquals(index.previousBusinessDay(date), businessDays.get(count - 1),
+                             "Previous mismatch before " + date);
+            }
+            if (count < businessDays.size() && businessDays.get(count).equals(date)) {
+                count++;
+            }
+        }
+
+        LocalDate first = businessDays.getFirst();
+        for (int n = 1; n < businessDays.size(); n++) {
+            assertEquals(index.addBusinessDays(first, n), businessDays.get(n), "Forward mismatch n=" + n);
+            assertEquals(index.addBusinessDays(businessDays.get(n), -n), first, "Backward mismatch n=" + n);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, groups = "core")
+    public void testNextBusinessDay_NoBusinessDays_ThrowsIllegalStateException() {
+        HolidayCalendar allWeekend = HolidayCalendar.builder()
+            .code("NONE")
+            .name("No Business Days")
+            .weekendDays(EnumSet.allOf(DayOfWeek.class))
+            .indexWindow(2024, 2024)
+            .build();
+        allWeekend.nextBusinessDay(LocalDate.of(2024, Month.JANUARY, 1));
+    }
+
+    @Test(groups = "core")
+    public void testWorkingDayOverrides() {
+        HolidayCalendar worked = HolidayCalendar.builder()
+            .code("WORK")
+            .name("Working Day Test Calendar")
+            .weekendDays(HolidayCalendar.STANDARD_WEEKEND)
+            .indexWindow(2020, 2025)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .workingDays(year -> switch (year) {
+                case 2022 -> List.of(LocalDate.of(2022, Month.MARCH, 2),    // Wednesday: ignored
+                                     LocalDate.of(2022, Month.FEBRUARY, 5),
+                                     LocalDate.of(2023, Month.JANUARY, 7),  // other year: ignored
+                                     LocalDate.of(2022, Month.JANUARY, 1)); // Saturday holiday
+                case 2030 -> List.of(LocalDate.of(2030, Month.FEBRUARY, 2));
+                default -> List.of();
+            })
+            .build();
+
+        assertEquals(worked.getWorkingDayOverrides(2022),
+                     List.of(LocalDate.of(2022, Month.JANUARY, 1), LocalDate.of(2022, Month.FEBRUARY, 5)));
+        assertTrue(worked.getWorkingDayOverrides(2023).isEmpty());
+        assertTrue(worked.getDataResources().isEmpty());
+
+        // Inside the window
+        LocalDate saturday = LocalDate.of(2022, Month.FEBRUARY, 5);
+        assertTrue(worked.isWeekend(saturday), "An override remains a weekend day");
+        assertTrue(worked.isWorkingDayOverride(saturday));
+        assertTrue(worked.isBusinessDay(saturday));
+        assertFalse(worked.isBusinessDay(LocalDate.of(2022, Month.JANUARY, 1)), "A holiday outranks an override");
+        assertFalse(worked.isBusinessDay(LocalDate.of(2023, Month.JANUARY, 7)));
+        assertEquals(worked.nextBusinessDay(saturday.minusDays(1)), saturday);
+        assertEquals(worked.previousBusinessDay(saturday.plusDays(2)), saturday);
+        assertEquals(worked.addBusinessDays(saturday.minusDays(1), 2), saturday.plusDays(2));
+        assertEquals(worked.businessDaysBetween(saturday.minusDays(1), saturday.plusDays(2)), 2L);
+
+        // Outside the window
+        LocalDate outside = LocalDate.of(2030, Month.FEBRUARY, 2);
+        assertTrue(worked.isWorkingDayOverride(outside));
+        assertTrue(worked.isBusinessDay(outside));
+        assertFalse(worked.isBusinessDay(outside.plusDays(1)));
+        assertEquals(worked.nextBusinessDay(outside.minusDays(1)), outside);
+        assertEquals(worked.getIndex().isBusinessDay(outside),
+                     HolidayCalendarIndex.of(worked, 2030, 2030).isBusinessDay(outside));
+    }
+
+    @Test(groups = "core")
+    public void testWorkingDayOverrides_AllWeekend() {
+        assertEquals(overridesOnlyIn2024().nextBusinessDay(LocalDate.of(2024, Month.JANUARY, 1)),
+                     LocalDate.of(2024, Month.JANUARY, 6));
+    }
+
+    private static HolidayCalendar overridesOnlyIn2024() {
+        return HolidayCalendar.builder()
+            .code("NONE")
+            .name("Overrides Only")
+            .weekendDays(EnumSet.allOf(DayOfWeek.class))
+            .indexWindow(2024, 2024)
+            .workingDays(year -> year == 2024 ? List.of(LocalDate.of(2024, Month.JANUARY, 6)) : List.of())
+            .build();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, groups = "core")
+    public void testNextBusinessDay_AfterLastOverride_ThrowsIllegalStateException() {
+        overridesOnlyIn2024().nextBusinessDay(LocalDate.of(2024, Month.FEBRUARY, 1));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, groups = "core")
+    public void testPreviousBusinessDay_BeforeFirstOverride_ThrowsIllegalStateException() {
+        overridesOnlyIn2024().previousBusinessDay(LocalDate.of(2024, Month.JANUARY, 5));
+    }
+
+    @Test(groups = "core")
+    public void testPreviousBusinessDay_PastLastOverride_FindsOverride() {
+        assertEquals(overridesOnlyIn2024().previousBusinessDay(LocalDate.of(2030, Month.JUNE, 1)),
+                     LocalDate.of(2024, Month.JANUARY, 6));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testOf_InvalidWindow_ThrowsIllegalArgumentException() {
+        HolidayCalendarIndex.of(calendar, 2025, 2020);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testBuilderIndexWindow_InvalidWindow_ThrowsIllegalArgumentException() {
+        HolidayCalendar.builder().indexWindow(2025, 2020);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class, groups = "core")
+    public void testIsHoliday_NullDate_ThrowsNullPointerException() {
+        calendar.isHoliday(null);
+    }
+
+}
@@ -28,6 +28,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.holiday.calendar.TestObjects.createDateRollUS;
 import static org.holiday.calendar.TestObjects.createObservanceLaborDay;
@@ -35,7 +39,8 @@ import static org.testng.Assert.*;
 
 /**
  * Tests for {@link HolidayCalendar#calculate(int, int)} and
- * {@link HolidayCalendar#calculateByYear(int, int)} introduced in GitHub #109.
+ * {@link HolidayCalendar#calculateByYear(int, int)} introduced in GitHub #109,
+ * and for the epoch-day variants of {@code calculateEpochDays}.
  */
 public class HolidayCalendarRangeTest {
 
@@ -338,4 +343,165 @@ public class HolidayCalendarRangeTest {
         assertEquals(result.get(3).getHoliday().getName(), "Labor Day");
     }
 
+    // =========================================================================
+    // J — Epoch-day bulk API matches the flat list
+    // =========================================================================
+
+    @Test(dataProvider = "rangeCountData", groups = "core")
+    public void testCalculateEpochDays_MatchesCalculateRange(int fromYear, int toYear, int expectedCount) {
+        List<HolidayDate> expected = calendar.calculate(fromYear, toYear);
+        int[] epochDays = calendar.calculateEpochDays(fromYear, toYear);
+
+        assertEquals(epochDays.length, expectedCount);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(epochDays[i], expected.get(i).getDate().toEpochDay());
+        }
+        assertEquals(calendar.epochDays(fromYear, toYear).toArray(), epochDays);
+    }
+
+    @Test(groups = "core")
+    public void testCalculateEpochDays_BufferWithParallelHolidays_CrossYearRoll() {
+        int[] epochDays = new int[8];
+        Holiday[] holidays = new Holiday[8];
+
+        int count = calendar.calculateEpochDays(2021, 2022, epochDays, holidays);
+
+        List<HolidayDate> expected = calendar.calculate(2021, 2022);
+        assertEquals(count, expected.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(LocalDate.ofEpochDay(epochDays[i]), expected.get(i).getDate());
+            assertSame(holidays[i], expected.get(i).getHoliday());
+        }
+        assertEquals(LocalDate.ofEpochDay(epochDays[2]), LocalDate.of(2021, Month.DECEMBER, 31));
+    }
+
+    @Test(groups = "core")
+    public void testCalculateEpochDays_EmptyCalendar_WritesNothing() {
+        assertEquals(emptyCalendar.calculateEpochDays(2000, 2030).length, 0);
+        assertEquals(emptyCalendar.calculateEpochDays(2000, 2030, new int[0], null), 0);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class, groups = "core")
+    public void testCalculateEpochDays_BufferTooSmall_ThrowsIndexOutOfBoundsException() {
+        calendar.calculateEpochDays(2021, 2022, new int[3], null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testCalculateEpochDays_InvalidRange_ThrowsIllegalArgumentException() {
+        calendar.calculateEpochDays(2026, 2025);
+    }
+
+    // =========================================================================
+    // K — Lazy streams match the flat list and stop early
+    // =========================================================================
+
+    @Test(groups = "core")
+    public void testStream_MatchesCalculate() {
+        assertEquals(calendar.stream(2021, 2022).toList(), calendar.calculate(2021, 2022));
+        assertEquals(calendar.stream(1990, 2030).toList(), calendar.calculate(1990, 2030));
+        assertEquals(calendar.stream(2025, 2025).toList(), calendar.calculate(2025));
+        assertEquals(emptyCalendar.stream(2000, 2030).count(), 0L);
+    }
+
+    @Test(groups = "core")
+    public void testStream_Parallel_MatchesCalculate() {
+        assertEquals(calendar.stream(1900, 2100).parallel().toList(), calendar.calculate(1900, 2100));
+    }
+
+    @Test(groups = "core")
+    public void testStream_FromDate_NextHolidays() {
+        // 2022 New Year's Day (Saturday) is observed on 2021-12-31
+        List<LocalDate> dates = calendar.stream(LocalDate.of(2021, Month.DECEMBER, 1))
+            .limit(3)
+            .map(HolidayDate::getDate)
+            .toList();
+        assertEquals(dates, List.of(LocalDate.of(2021, Month.DECEMBER, 31),
+                                    LocalDate.of(2022, Month.SEPTEMBER, 5),
+                                    LocalDate.of(2023, Month.JANUARY, 2)));
+        assertEquals(calendar.stream(LocalDate.of(2022, Month.JANUARY, 1)).findFirst().orElseThrow().getDate(),
+                     LocalDate.of(2022, Month.SEPTEMBER, 5));
+    }
+
+    @Test(groups = "core")
+    public void testStream_FromDate_EndsAfterRunOfEmptyYears() {
+        HolidayCalendar anniversaries = HolidayCalendar.builder()
+            .code("TEST")
+            .name("Anniversary Test Calendar")
+            .holiday(new SpecialAnniversary("Coronation", "", LocalDate.of(2023, Month.MAY, 8)))
+            .build();
+        assertEquals(anniversaries.stream(LocalDate.of(2020, Month.JANUARY, 1)).map(HolidayDate::getDate).toList(),
+                     List.of(LocalDate.of(2023, Month.MAY, 8)));
+        assertEquals(emptyCalendar.stream(LocalDate.of(2020, Month.JANUARY, 1)).count(), 0L);
+    }
+
+    @Test(groups = "core")
+    public void testStream_TakeWhile_CalculatesOnlyNeighbouringYears() {
+        List<Integer> calculated = new ArrayList<>();
+        HolidayCalendar counting = new HolidayCalendar(calendar) {
+            @Override
+            protected List<HolidayDate> calculateYear(int year) {
+                calculated.add(year);
+                return super.calculateYear(year);
+            }
+        };
+
+        List<HolidayDate> dates = counting.stream(2020, 1_000_000)
+            .takeWhile(hd -> hd.getDate().getYear() < 2022)
+            .toList();
+
+        // Includes 2022 New Year's Day, observed on 2021-12-31
+        assertEquals(dates, calendar.calculate(2020, 2022).subList(0, 5));
+        assertEquals(calculated, List.of(2020, 2021, 2022, 2023));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testStream_InvalidRange_ThrowsIllegalArgumentException() {
+        calendar.stream(2026, 2025);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class, groups = "core")
+    public void testStream_NullDate_ThrowsNullPointerException() {
+        calendar.stream(null);
+    }
+
+    // =========================================================================
+    // L — Parallel calculation matches sequential calculation
+    // =========================================================================
+
+    @Test(groups = "core")
+    public void testCalculate_Parallel_MatchesSequential() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(calendar.calculate(1900, 2100, executor), calendar.calculate(1900, 2100));
+            assertEquals(calendar.calculate(2021, 2022, executor), calendar.calculate(2021, 2022));
+            assertEquals(calendar.calculateByYear(1900, 2100, executor), calendar.calculateByYear(1900, 2100));
+            assertEquals(calendar.calculateByYear(2025, 2025, executor).keySet(), Set.of(2025));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, groups = "core")
+    public void testCalculate_Parallel_RethrowsObservanceFailure() {
+        HolidayCalendar failing = HolidayCalendar.builder()
+            .code("FAIL")
+            .name("Failing Calendar")
+            .holiday(new FloatingHoliday("Broken Day", "", year -> {
+                if (year == 2050) throw new IllegalStateException("No date for " + year);
+                return LocalDate.of(year, Month.MARCH, 1);
+            }))
+            .build();
+        failing.calculate(2000, 2100, ForkJoinPool.commonPool());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testCalculate_Parallel_InvalidRange_ThrowsIllegalArgumentException() {
+        calendar.calculateByYear(2026, 2025, ForkJoinPool.commonPool());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class, groups = "core")
+    public void testCalculate_Parallel_NullExecutor_ThrowsNullPointerException() {
+        calendar.calculate(2000, 2030, null);
+    }
+
 }
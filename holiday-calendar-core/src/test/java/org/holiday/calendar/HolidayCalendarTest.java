@@ -231,6 +231,41 @@ public class HolidayCalendarTest {
         assertFalse(calendar.isWeekendUTC(mondayInstant));
     }
 
+    @Test(groups = "core")
+    public void testIsWeekend_EpochSecond_MatchesZonedDateTime() {
+        HolidayCalendar calendar = createHolidayCalendarSifmaUS();
+
+        // Hourly across 2021, which includes both New York DST transitions
+        Instant start = LocalDate.of(2021, Month.JANUARY, 1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        for (long hour = 0; hour < 366 * 24; hour++) {
+            Instant instant = start.plusSeconds(hour * 3600);
+            boolean expected = calendar.getWeekendDays().contains(instant.atZone(ZONE_ID_NEW_YORK).getDayOfWeek());
+            assertEquals(calendar.isWeekend(instant.getEpochSecond(), ZONE_ID_NEW_YORK), expected, "Mismatch at " + instant);
+            assertEquals(calendar.isWeekend(instant, ZONE_ID_NEW_YORK), expected, "Mismatch at " + instant);
+        }
+    }
+
+    @Test(groups = "core")
+    public void testIsWeekend_EpochDay() {
+        HolidayCalendar calendar = createHolidayCalendarSifmaUS();
+
+        // 2021-12-18 is a Saturday; epoch days before 1970 must also resolve
+        assertTrue(calendar.isWeekend(LocalDate.of(2021, Month.DECEMBER, 18).toEpochDay()));
+        assertFalse(calendar.isWeekend(LocalDate.of(2021, Month.DECEMBER, 20).toEpochDay()));
+        assertTrue(calendar.isWeekend(LocalDate.of(1969, Month.DECEMBER, 28).toEpochDay()));
+        assertFalse(calendar.isWeekend(LocalDate.of(1969, Month.DECEMBER, 29).toEpochDay()));
+    }
+
+    @Test(groups = "core")
+    public void testIsWeekendUTC_EpochSecond() {
+        HolidayCalendar calendar = createHolidayCalendarSifmaUS();
+
+        // Last second of Friday 2021-12-17 and first second of Saturday 2021-12-18
+        long saturday = LocalDate.of(2021, Month.DECEMBER, 18).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        assertFalse(calendar.isWeekendUTC(saturday - 1));
+        assertTrue(calendar.isWeekendUTC(saturday));
+    }
+
     private HolidayCalendar createHolidayCalendarSifmaUS() {
         return HolidayCalendar.builder()
                               .code("SIFMA")
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.holiday.calendar.JointCalendarIndex.Combination;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.holiday.calendar.TestObjects.createDateRollUS;
+import static org.holiday.calendar.TestObjects.createObservanceLaborDay;
+import static org.testng.Assert.*;
+
+public class JointCalendarIndexTest {
+
+    private HolidayCalendar us;
+    private HolidayCalendar gulf;
+
+    @BeforeClass
+    public void setupCalendars() {
+        us = HolidayCalendar.builder()
+            .code("US")
+            .name("US Test Calendar")
+            .dateRoll(createDateRollUS())
+            .weekendDays(HolidayCalendar.STANDARD_WEEKEND)
+            .indexWindow(2020, 2026)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .holiday(new FloatingHoliday("Labor Day", "", createObservanceLaborDay()))
+            .build();
+        gulf = HolidayCalendar.builder()
+            .code("GULF")
+            .name("Friday-Saturday Weekend Test Calendar")
+            .weekendDay(DayOfWeek.FRIDAY)
+            .weekendDay(DayOfWeek.SATURDAY)
+            .indexWindow(2022, 2030)
+            .holiday(new FixedHoliday("National Day", "", Month.DECEMBER, 2))
+            .build();
+    }
+
+    @Test(groups = "core")
+    public void testOf_WindowIsOverlapOfComponents() {
+        JointCalendarIndex joint = JointCalendarIndex.of(Combination.ALL, List.of(us, gulf));
+        assertEquals(joint.getFromYear(), 2022);
+        assertEquals(joint.getToYear(), 2026);
+        assertEquals(joint.getCode(), "US&GULF");
+        assertEquals(joint.getComponents(), List.of(us.getIndex(), gulf.getIndex()));
+    }
+
+    @Test(groups = "core")
+    public void testIsBusinessDay_MatchesComponents() {
+        JointCalendarIndex all = JointCalendarIndex.of(Combination.ALL, List.of(us, gulf));
+        JointCalendarIndex any = JointCalendarIndex.of(Combination.ANY, List.of(us, gulf));
+        // Scan starts and ends outside the joint window to exercise the fallback
+        for (LocalDate date = LocalDate.of(2019, Month.DECEMBER, 1);
+             date.isBefore(LocalDate.of(2028, Month.FEBRUARY, 1));
+             date = date.plusDays(1)) {
+            boolean usOpen = us.isBusinessDay(date);
+            boolean gulfOpen = gulf.isBusinessDay(date);
+            assertEquals(all.isBusinessDay(date), usOpen && gulfOpen, "ALL mismatch on " + date);
+            assertEquals(any.isBusinessDay(date), usOpen || gulfOpen, "ANY mismatch on " + date);
+        }
+    }
+
+    @Test(groups = "core")
+    public void testAddBusinessDays_SkipsEitherCalendarsClosures() {
+        JointCalendarIndex joint = JointCalendarIndex.of(Combination.ALL, List.of(us, gulf));
+        // Wed 2024-08-28 + 2: Thu 29 open, Fri 30 and Sat/Sun closed, Mon Labor Day closed
+        LocalDate trade = LocalDate.of(2024, Month.AUGUST, 28);
+        assertEquals(joint.addBusinessDays(trade, 1), LocalDate.of(2024, Month.AUGUST, 29));
+        assertEquals(joint.addBusinessDays(trade, 2), LocalDate.of(2024, Month.SEPTEMBER, 3));
+        assertEquals(joint.businessDaysBetween(trade, LocalDate.of(2024, Month.SEPTEMBER, 3)), 2L);
+        assertEquals(joint.previousBusinessDay(LocalDate.of(2024, Month.SEPTEMBER, 3)),
+                     LocalDate.of(2024, Month.AUGUST, 29));
+    }
+
+    @Test(groups = "core")
+    public void testAddBusinessDays_MatchesDayByDay() {
+        JointCalendarIndex joint = JointCalendarIndex.of(Combination.ALL, List.of(us, gulf));
+        // Tuesday 2021-06-01 is a business day on both calendars
+        LocalDate start = LocalDate.of(2021, Month.JUNE, 1);
+        assertTrue(joint.isBusinessDay(start));
+        LocalDate expected = start;
+        for (int n = 1; n <= 1500; n++) {
+            do {
+                expected = expected.plusDays(1);
+            } while (!(us.isBusinessDay(expected) && gulf.isBusinessDay(expected)));
+            assertEquals(joint.addBusinessDays(start, n), expected, "Forward mismatch n=" + n);
+            assertEquals(joint.addBusinessDays(expected, -n), start, "Backward mismatch n=" + n);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, groups = "core")
+    public void testNextBusinessDay_NoCommonBusinessDays_ThrowsIllegalStateException() {
+        HolidayCalendar weekdaysClosed = HolidayCalendar.builder()
+            .code("WKND")
+            .name("Weekend-Only Calendar")
+            .weekendDays(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                                 DayOfWeek.THURSDAY, DayOfWeek.FRIDAY))
+            .indexWindow(2024, 2024)
+            .build();
+        JointCalendarIndex.of(Combination.ALL, List.of(us, weekdaysClosed))
+            .nextBusinessDay(LocalDate.of(2024, Month.JANUARY, 1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testOf_NoCalendars_ThrowsIllegalArgumentException() {
+        JointCalendarIndex.of(Combination.ALL, List.of());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testOf_DisjointWindows_ThrowsIllegalArgumentException() {
+        HolidayCalendar early = HolidayCalendar.builder().code("E").name("Early").indexWindow(2000, 2001).build();
+        JointCalendarIndex.of(Combination.ALL, List.of(us, early));
+    }
+
+}
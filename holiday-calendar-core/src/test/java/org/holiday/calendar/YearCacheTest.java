@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.testng.annotations.Test;
+
+import java.time.Month;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class YearCacheTest {
+
+    @Test(groups = "core")
+    public void testGet_CachesResult() {
+        YearCache<List<HolidayDate>> cache = new YearCache<>(4);
+        AtomicInteger computations = new AtomicInteger();
+        List<HolidayDate> first = cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+        List<HolidayDate> second = cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+
+        assertSame(second, first);
+        assertEquals(computations.get(), 1);
+    }
+
+    @Test(groups = "core")
+    public void testGet_EvictsUnreferencedYear() {
+        YearCache<List<HolidayDate>> cache = new YearCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+        cache.get(2024, year -> { computations.incrementAndGet(); return List.of(); });
+        cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+        cache.get(2024, year -> { computations.incrementAndGet(); return List.of(); });   // sets the reference bit of 2024
+        cache.get(2026, year -> { computations.incrementAndGet(); return List.of(); });   // second chance for 2024, evicts 2025
+
+        assertEquals(cache.size(), 2);
+        assertEquals(computations.get(), 3);
+        cache.get(2024, year -> { computations.incrementAndGet(); return List.of(); });
+        assertEquals(computations.get(), 3, "2024 should still be cached");
+        cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+        assertEquals(computations.get(), 4, "2025 should have been evicted");
+    }
+
+    @Test(groups = "core")
+    public void testGet_ZeroCapacityDisablesCaching() {
+        YearCache<List<HolidayDate>> cache = new YearCache<>(0);
+        AtomicInteger computations = new AtomicInteger();
+        cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+        cache.get(2025, year -> { computations.incrementAndGet(); return List.of(); });
+
+        assertEquals(computations.get(), 2);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, groups = "core")
+    public void testConstructor_NegativeCapacity_ThrowsIllegalArgumentException() {
+        new YearCache<>(-1);
+    }
+
+    @Test(groups = "core")
+    public void testCalendarCalculate_ReturnsCachedImmutableList() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+            .code("TEST")
+            .name("Year Cache Test Calendar")
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .build();
+
+        List<HolidayDate> first = calendar.calculate(2025);
+        assertSame(calendar.calculate(2025), first);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(first.getFirst()));
+    }
+
+    @Test(groups = "core")
+    public void testCalendarCalculate_CacheDisabled() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+            .code("TEST")
+            .name("Year Cache Test Calendar")
+            .yearCacheSize(0)
+            .holiday(new FixedHoliday("New Year's Day", "", Month.JANUARY, 1))
+            .build();
+
+        List<HolidayDate> first = calendar.calculate(2025);
+        List<HolidayDate> second = calendar.calculate(2025);
+        assertNotSame(second, first);
+        assertEquals(second, first);
+    }
+
+}
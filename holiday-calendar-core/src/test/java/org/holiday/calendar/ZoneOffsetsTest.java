@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import static org.testng.Assert.assertEquals;
+
+public class ZoneOffsetsTest {
+
+    @DataProvider
+    public Object[][] zones() {
+        return new Object[][] {
+            { ZoneId.of("America/New_York") },
+            { ZoneId.of("Europe/London") },
+            { ZoneId.of("Australia/Sydney") },
+            { ZoneId.of("Asia/Tokyo") },
+            { ZoneOffset.ofHours(-3) },
+        };
+    }
+
+    @Test(dataProvider = "zones", groups = "core")
+    public void testOffsetSeconds_AroundTransitions(ZoneId zoneId) {
+        ZoneRules rules = zoneId.getRules();
+        Instant instant = Instant.parse("2019-06-01T00:00:00Z");
+        for (int i = 0; i < 8; i++) {
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            if (next == null) break;
+            long transition = next.toEpochSecond();
+            // Walk backwards across the transition so that cached spans are reused
+            for (long second = transition + 2; second >= transition - 2; second--) {
+                assertOffset(zoneId, second);
+            }
+            // ... and forwards again across the same transition
+            for (long second = transition - 2; second <= transition + 2; second++) {
+                assertOffset(zoneId, second);
+            }
+            // A span first computed exactly at a transition must not extend before it
+            assertOffset(zoneId, transition);
+            assertOffset(zoneId, transition - 1);
+            instant = next.getInstant();
+        }
+        assertOffset(zoneId, Instant.parse("2024-01-15T12:00:00Z").getEpochSecond());
+        assertOffset(zoneId, Instant.parse("1950-07-15T12:00:00Z").getEpochSecond());
+    }
+
+    @Test(groups = "core")
+    public void testEpochDay_NegativeEpochSecond() {
+        // 1969-12-31T23:00:00Z
+        assertEquals(ZoneOffsets.epochDayUTC(-3600), -1L);
+        assertEquals(ZoneOffsets.epochDay(-3600, ZoneOffset.ofHours(2)), 0L);
+    }
+
+    private static void assertOffset(ZoneId zoneId, long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        assertEquals(ZoneOffsets.offsetSeconds(epochSecond, zoneId),
+                     zoneId.getRules().getOffset(instant).getTotalSeconds(), zoneId + " at " + instant);
+        assertEquals(ZoneOffsets.epochDay(epochSecond, zoneId),
+                     instant.atZone(zoneId).toLocalDate().toEpochDay(), zoneId + " at " + instant);
+    }
+
+}
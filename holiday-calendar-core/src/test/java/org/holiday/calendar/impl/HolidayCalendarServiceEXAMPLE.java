@@ -24,6 +24,10 @@ public class HolidayCalendarServiceEXAMPLE extends AbstractHolidayCalendarServic
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final Holiday newYearsDay = Holiday.builder()
                                            .name("New Year's Day")
                                            .description("First day of new year in the Common Era (CE)")
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.metrics;
+
+import org.holiday.calendar.FloatingHoliday;
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.observance.AbstractObservance;
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class InstrumentationTest {
+
+    private final RecordingCalendarMetrics recording = new RecordingCalendarMetrics();
+    private CalendarMetrics previous;
+
+    @BeforeClass(alwaysRun = true)
+    public void installRecorder() {
+        previous = Instrumentation.install(recording);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreMetrics() {
+        Instrumentation.install(previous);
+    }
+
+    @Test(groups = "core")
+    public void testInstalledReceiverEnablesInstrumentation() {
+        assertTrue(Instrumentation.isEnabled());
+        assertSame(Instrumentation.metrics(), recording);
+    }
+
+    @Test(groups = "core")
+    public void testFactoryReportsLookupsAndServiceSearch() {
+        HolidayCalendarFactory factory = new HolidayCalendarFactory();
+        factory.create("eXample");
+        factory.create("eXample");
+
+        // The mixed-case code is used by no other test
+        assertEquals(recording.events().stream().filter(e -> e.contains(" eXample")).toList(),
+                     List.of("lookup eXample miss", "service eXample", "lookup eXample hit"));
+    }
+
+    @Test(groups = "core")
+    public void testCalculateAndObservanceAreTimed() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+            .code("METRICS")
+            .name("Metrics Test Calendar")
+            .holiday(new FloatingHoliday("First Monday of March", "", new FirstMondayOfMarch()))
+            .build();
+        calendar.calculate(2026);
+        calendar.calculate(2026);
+
+        // The second calculation is served by the year cache
+        assertEquals(recording.events().stream()
+                         .filter(e -> e.contains("METRICS") || e.contains("FirstMondayOfMarch"))
+                         .toList(),
+                     List.of("observance FirstMondayOfMarch 2026",
+                             "calculated METRICS 2026 1",
+                             "calculated METRICS 2026 1"));
+    }
+
+    @Test(groups = "core")
+    public void testCsvLoadReportsRows() {
+        CsvObservanceLoader.loadMultiple(InstrumentationTest.class, "/org/holiday/calendar/util/csv-multi-happy.csv");
+        assertTrue(recording.events().contains("loaded /org/holiday/calendar/util/csv-multi-happy.csv 4"));
+    }
+
+    private static final class FirstMondayOfMarch extends AbstractObservance {
+        @Override
+        protected LocalDate computeDate(int year) {
+            LocalDate date = LocalDate.of(year, Month.MARCH, 1);
+            while (date.getDayOfWeek().getValue() != 1) date = date.plusDays(1);
+            return date;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.metrics;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Test receiver of {@link CalendarMetrics}, installed by
+ * {@link InstrumentationTest}, which records each call as a line of text.
+ */
+public class RecordingCalendarMetrics implements CalendarMetrics {
+
+    private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+    List<String> events() {
+        return List.copyOf(events);
+    }
+
+    @Override
+    public void calendarLookup(String code, boolean cached) {
+        events.add("lookup " + code + " " + (cached ? "hit" : "miss"));
+    }
+
+    @Override
+    public void serviceLookup(String code, long nanos) {
+        events.add("service " + code);
+    }
+
+    @Override
+    public void calculated(String calendarCode, int year, int holidays, long nanos) {
+        events.add("calculated " + calendarCode + " " + year + " " + holidays);
+    }
+
+    @Override
+    public void observanceComputed(Class<?> observance, int year, long nanos) {
+        events.add("observance " + observance.getSimpleName() + " " + year);
+    }
+
+    @Override
+    public void dataLoaded(String resource, int rows, long nanos) {
+        events.add("loaded " + resource + " " + rows);
+    }
+
+}
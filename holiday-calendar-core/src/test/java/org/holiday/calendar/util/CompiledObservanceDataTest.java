@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import org.holiday.calendar.tools.ObservanceDataCompiler;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class CompiledObservanceDataTest {
+
+    private static final List<String> CSV_FILES =
+        List.of("csv-duplicate-year.csv", "csv-malformed-date.csv", "csv-multi-happy.csv", "csv-single-happy.csv");
+
+    @Test(groups = "csv.loader.compiled")
+    public void testCompile_RoundTripMatchesCsvRows() throws IOException {
+        Path directory = compileTestCsvFiles();
+        CompiledObservanceData compiled = load(directory);
+
+        for (String csvFile : CSV_FILES) {
+            List<Map.Entry<Integer, LocalDate>> fromBinary = new ArrayList<>();
+            assertTrue(compiled.scan(csvFile, url(directory.resolve(csvFile)),
+                                     (year, date) -> fromBinary.add(Map.entry(year, date))), csvFile);
+            assertEquals(fromBinary, parseCsv(csvFile), csvFile);
+        }
+    }
+
+    @Test(groups = "csv.loader.compiled")
+    public void testScan_UnknownTable_ReturnsFalse() throws IOException {
+        Path directory = compileTestCsvFiles();
+        assertFalse(load(directory).scan("csv-absent.csv", url(directory.resolve("csv-absent.csv")),
+                                         (year, date) -> fail("Unexpected row")));
+    }
+
+    @Test(groups = "csv.loader.compiled")
+    public void testScan_CsvElsewhereOnClasspath_ReturnsFalse() throws IOException {
+        String csvFile = "csv-single-happy.csv";
+        assertFalse(load(compileTestCsvFiles()).scan(csvFile, CompiledObservanceDataTest.class.getResource(csvFile),
+                                                     (year, date) -> fail("Unexpected row")));
+    }
+
+    @Test(groups = "csv.loader.compiled")
+    public void testScan_CsvModifiedSinceCompiled_ReturnsFalse() throws IOException {
+        Path directory = compileTestCsvFiles();
+        CompiledObservanceData compiled = load(directory);
+        Path csvFile = directory.resolve("csv-single-happy.csv");
+        FileTime compiledAt = Files.getLastModifiedTime(directory.resolve(CompiledObservanceData.RESOURCE_NAME));
+        Files.setLastModifiedTime(csvFile, FileTime.fromMillis(compiledAt.toMillis() + 10_000));
+        assertFalse(compiled.scan("csv-single-happy.csv", url(csvFile), (year, date) -> fail("Unexpected row")));
+    }
+
+    @Test(groups = "csv.loader.compiled")
+    public void testCompile_DirectoryWithoutCsv_WritesNothing() throws IOException {
+        Path directory = Files.createTempDirectory("observances");
+        assertFalse(ObservanceDataCompiler.compile(directory));
+        assertTrue(ObservanceDataCompiler.compileAll(directory).isEmpty());
+    }
+
+    @Test(groups = "csv.loader.compiled", expectedExceptions = IllegalStateException.class)
+    public void testOf_WrongMagic_ThrowsIllegalStateException() throws IOException {
+        Path resource = compileTestCsvFiles().resolve(CompiledObservanceData.RESOURCE_NAME);
+        CompiledObservanceData.of(ByteBuffer.wrap(new byte[] {'C', 'S', 'V', ',', 0, 1, 0, 0, 0, 0}), url(resource));
+    }
+
+    @Test(groups = "csv.loader.compiled", expectedExceptions = IllegalStateException.class)
+    public void testOf_Truncated_ThrowsIllegalStateException() throws IOException {
+        Path resource = compileTestCsvFiles().resolve(CompiledObservanceData.RESOURCE_NAME);
+        byte[] bytes = Files.readAllBytes(resource);
+        CompiledObservanceData.of(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 3)), url(resource));
+    }
+
+    private static Path compileTestCsvFiles() throws IOException {
+        Path directory = Files.createTempDirectory("observances");
+        for (String csvFile : CSV_FILES) {
+            try (InputStream is = CompiledObservanceDataTest.class.getResourceAsStream(csvFile)) {
+                Files.copy(is, directory.resolve(csvFile));
+            }
+        }
+        assertEquals(ObservanceDataCompiler.compileAll(directory),
+                     List.of(directory.resolve(CompiledObservanceData.RESOURCE_NAME)));
+        return directory;
+    }
+
+    private static CompiledObservanceData load(Path directory) throws IOException {
+        return CompiledObservanceData.load(url(directory.resolve(CompiledObservanceData.RESOURCE_NAME)));
+    }
+
+    private static URL url(Path path) throws IOException {
+        return path.toUri().toURL();
+    }
+
+    private static List<Map.Entry<Integer, LocalDate>> parseCsv(String csvFile) throws IOException {
+        List<Map.Entry<Integer, LocalDate>> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                CompiledObservanceDataTest.class.getResourceAsStream(csvFile), StandardCharsets.UTF_8))) {
+            CsvObservanceLoader.parse(reader, csvFile, (year, date) -> rows.add(Map.entry(year, date)));
+        }
+        return rows;
+    }
+
+}
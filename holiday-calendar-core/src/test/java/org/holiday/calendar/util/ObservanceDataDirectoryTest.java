@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import org.holiday.calendar.FloatingHoliday;
+import org.holiday.calendar.HolidayCalendar;
+import org.holiday.calendar.HolidayDate;
+import org.holiday.calendar.function.Observance;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+public class ObservanceDataDirectoryTest {
+
+    private static final String RESOURCE = "csv-reloadable.csv";
+
+    private Path directory;
+
+    /** Observance reading the reloadable fixture, as the Islamic observances do. */
+    private static final class ReloadableObservance implements Observance {
+        private final ObservanceData<LocalDate> dates =
+            CsvObservanceLoader.reloadableSingle(ObservanceDataDirectoryTest.class, RESOURCE);
+
+        @Override
+        public LocalDate apply(Integer year) {
+            return dates.get(year);
+        }
+
+        @Override
+        public Set<String> dataResources() {
+            return Set.of(dates.getResource());
+        }
+    }
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("observance-data");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private void write(String... rows) throws IOException {
+        Path staged = Files.createTempFile("observance-data", ".csv");
+        Files.write(staged, List.of(rows));
+        Files.move(staged, directory.resolve(RESOURCE), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Test(groups = "csv.loader.reload")
+    public void testReloadableSingle_MatchesLoadSingle() {
+        ObservanceData<LocalDate> data = CsvObservanceLoader.reloadableSingle(ObservanceDataDirectoryTest.class, RESOURCE);
+        assertEquals(data.get(), CsvObservanceLoader.loadSingle(ObservanceDataDirectoryTest.class, RESOURCE));
+        assertEquals(data.getResource(), RESOURCE);
+        assertSame(CsvObservanceLoader.reloadableSingle(ObservanceDataDirectoryTest.class, RESOURCE), data);
+    }
+
+    @Test(groups = "csv.loader.reload")
+    public void testOpen_OverridesAndCloseReverts() throws IOException {
+        ObservanceData<LocalDate> data = CsvObservanceLoader.reloadableSingle(ObservanceDataDirectoryTest.class, RESOURCE);
+        Map<Integer, LocalDate> bundled = data.get();
+        List<String> notifications = new ArrayList<>();
+        ObservanceDataListener listener = (resource, years) -> notifications.add(resource + years);
+        CsvObservanceLoader.addListener(listener);
+        try {
+            write("2020,2020-05-24", "2021,2021-05-14", "2022,2022-05-02", "2023,2023-04-21");
+            try (ObservanceDataDirectory opened = ObservanceDataDirectory.open(directory)) {
+                assertEquals(data.get(2021), LocalDate.of(2021, 5, 14));
+                assertEquals(data.get(2023), LocalDate.of(2023, 4, 21));
+                assertEquals(notifications, List.of(RESOURCE + "[2021, 2023]"));
+
+                assertTrue(opened.reload(RESOURCE).isEmpty(), "Unchanged file should not report changes");
+                assertEquals(notifications.size(), 1);
+            }
+            assertEquals(data.get(), bundled);
+            assertEquals(notifications, List.of(RESOURCE + "[2021, 2023]", RESOURCE + "[2021, 2023]"));
+        } finally {
+            CsvObservanceLoader.removeListener(listener);
+        }
+    }
+
+    @Test(groups = "csv.loader.reload")
+    public void testReload_InvalidatesOnlyChangedYears() throws IOException {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+            .code("RELOAD")
+            .name("Reloadable Test Calendar")
+            .indexWindow(2019, 2023)
+            .holiday(new FloatingHoliday("Reloadable Day", "", new ReloadableObservance(), false))
+            .build();
+        assertEquals(calendar.getDataResources(), Set.of(RESOURCE));
+
+        List<HolidayDate> unchanged = calendar.calculate(2020);
+        assertEquals(calendar.calculate(2021).getFirst().getDate(), LocalDate.of(2021, 5, 13));
+        assertTrue(calendar.isHoliday(LocalDate.of(2021, 5, 13)));
+
+        write("2020,2020-05-24", "2021,2021-05-14", "2022,2022-05-02");
+        try (ObservanceDataDirectory ignored = ObservanceDataDirectory.open(directory)) {
+            assertSame(calendar.calculate(2020), unchanged, "Unchanged year should stay cached");
+            assertEquals(calendar.calculate(2021).getFirst().getDate(), LocalDate.of(2021, 5, 14));
+            assertFalse(calendar.isHoliday(LocalDate.of(2021, 5, 13)));
+            assertTrue(calendar.isHoliday(LocalDate.of(2021, 5, 14)));
+        }
+        assertEquals(calendar.calculate(2021).getFirst().getDate(), LocalDate.of(2021, 5, 13));
+    }
+
+    @Test(groups = "csv.loader.reload")
+    public void testWatch_ReloadsModifiedFile() throws Exception {
+        ObservanceData<LocalDate> data = CsvObservanceLoader.reloadableSingle(ObservanceDataDirectoryTest.class, RESOURCE);
+        try (ObservanceDataDirectory opened = ObservanceDataDirectory.open(directory).watch()) {
+            write("2022,2022-05-03");
+            long deadline = System.nanoTime() + 30_000_000_000L;
+            while (!LocalDate.of(2022, 5, 3).equals(data.get(2022)) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(data.get(2022), LocalDate.of(2022, 5, 3));
+            assertNull(data.get(2020));
+
+            Files.delete(opened.getDirectory().resolve(RESOURCE));
+            while (data.get(2020) == null && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(data.get(2022), LocalDate.of(2022, 5, 2), "Deleting the file should revert to bundled data");
+        }
+    }
+
+    @Test(groups = "csv.loader.reload")
+    public void testOpen_AlreadyOpen_ThrowsIllegalStateException() throws IOException {
+        try (ObservanceDataDirectory ignored = ObservanceDataDirectory.open(directory)) {
+            assertThrows(IllegalStateException.class, () -> ObservanceDataDirectory.open(directory));
+        }
+    }
+
+    @Test(groups = "csv.loader.reload", expectedExceptions = NotDirectoryException.class)
+    public void testOpen_NotDirectory_ThrowsNotDirectoryException() throws IOException {
+        ObservanceDataDirectory.open(directory.resolve("missing"));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.util;
+
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class YearTableTest {
+
+    @Test(groups = "csv.loader.table")
+    public void testLookup_WithGap() {
+        YearTable table = YearTable.of(Map.of(
+            2020, LocalDate.of(2020, 5, 24),
+            2022, LocalDate.of(2022, 5, 2)));
+
+        assertEquals(table.size(), 2);
+        assertEquals(table.getFirstYear(), 2020);
+        assertEquals(table.getLastYear(), 2022);
+        assertTrue(table.contains(2020));
+        assertFalse(table.contains(2021));
+        assertEquals(table.get(2022), LocalDate.of(2022, 5, 2));
+        assertNull(table.get(2021));
+        assertEquals(table.epochDay(2020), LocalDate.of(2020, 5, 24).toEpochDay());
+        assertEquals(table.epochDay(2021), YearTable.MISSING);
+    }
+
+    @Test(groups = "csv.loader.table")
+    public void testLookup_OutsideSpan() {
+        YearTable table = YearTable.of(Map.of(2020, LocalDate.of(2020, 5, 24)));
+        assertFalse(table.contains(2019));
+        assertFalse(table.contains(2021));
+        assertFalse(table.contains(Integer.MIN_VALUE));
+        assertFalse(table.contains(Integer.MAX_VALUE));
+        assertNull(table.get(Integer.MAX_VALUE));
+    }
+
+    @Test(groups = "csv.loader.table")
+    public void testEmpty() {
+        YearTable table = YearTable.of(Map.of());
+        assertEquals(table.size(), 0);
+        assertTrue(table.getLastYear() < table.getFirstYear());
+        assertFalse(table.contains(0));
+        assertNull(table.get(2020));
+    }
+
+    @Test(groups = "csv.loader.table")
+    public void testReloadableSingle_TableMatchesMap() {
+        ObservanceData<LocalDate> data = CsvObservanceLoader.reloadableSingle(YearTableTest.class, "csv-duplicate-year.csv");
+        YearTable table = data.table();
+        assertEquals(table.size(), data.get().size());
+        data.get().forEach((year, date) -> assertEquals(table.get(year), date, "Mismatch in " + year));
+    }
+
+    @Test(groups = "csv.loader.table", expectedExceptions = UnsupportedOperationException.class)
+    public void testReloadableMultiple_Table_ThrowsUnsupportedOperationException() {
+        CsvObservanceLoader.reloadableMultiple(YearTableTest.class, "csv-multi-happy.csv").table();
+    }
+
+}
@@ -58,6 +58,10 @@ public class HolidayCalendarServiceAE extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -65,6 +69,7 @@ public class HolidayCalendarServiceAE extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(UaeHolidays.UAE_WEEKEND)
                 .holidays(UaeHolidays.baseHolidays(true))
+                .dataValidThrough(UaeHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
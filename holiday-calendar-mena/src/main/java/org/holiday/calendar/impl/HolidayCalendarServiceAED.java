@@ -56,12 +56,17 @@ public class HolidayCalendarServiceAED extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(UaeHolidays.UAE_WEEKEND)
                 .holidays(UaeHolidays.baseHolidays(false))
+                .dataValidThrough(UaeHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -60,6 +60,10 @@ public class HolidayCalendarServiceBH extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -67,6 +71,7 @@ public class HolidayCalendarServiceBH extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(BahrainHolidays.BAHRAIN_WEEKEND)
                 .holidays(BahrainHolidays.baseHolidays(true))
+                .dataValidThrough(BahrainHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
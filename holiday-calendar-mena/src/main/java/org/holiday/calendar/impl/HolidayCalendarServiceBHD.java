@@ -61,12 +61,17 @@ public class HolidayCalendarServiceBHD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(BahrainHolidays.BAHRAIN_WEEKEND)
                 .holidays(BahrainHolidays.bhdHolidays())
+                .dataValidThrough(BahrainHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
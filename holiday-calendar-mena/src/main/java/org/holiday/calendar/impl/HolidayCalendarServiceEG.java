@@ -63,6 +63,10 @@ public class HolidayCalendarServiceEG extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -70,6 +74,7 @@ public class HolidayCalendarServiceEG extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(EgyptHolidays.EGYPT_WEEKEND)
                 .holidays(EgyptHolidays.baseHolidays(true))
+                .dataValidThrough(EgyptHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
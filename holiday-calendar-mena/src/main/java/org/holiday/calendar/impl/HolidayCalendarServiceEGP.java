@@ -63,12 +63,17 @@ public class HolidayCalendarServiceEGP extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(EgyptHolidays.EGYPT_WEEKEND)
                 .holidays(EgyptHolidays.egpHolidays())
+                .dataValidThrough(EgyptHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
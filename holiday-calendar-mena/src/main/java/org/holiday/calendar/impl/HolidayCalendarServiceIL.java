@@ -34,9 +34,9 @@ import org.holiday.calendar.function.DateRolls;
  * business day). Fixed holidays that fall on Friday or Saturday roll to the
  * following Sunday per {@link DateRolls#followingSunday()}.
  *
- * <p>All ten holidays are computed algorithmically via
- * {@code net.time4j.calendar.HebrewCalendar}; no lookup tables or data
- * ceiling applies. Independence Day (Yom Ha'atzmaut) applies a statutory
+ * <p>All ten holidays are computed from a precomputed table of Hebrew calendar
+ * anchors, falling back to {@code net.time4j.calendar.HebrewCalendar} outside
+ * it; no data ceiling applies. Independence Day (Yom Ha'atzmaut) applies a statutory
  * postponement rule; see {@link org.holiday.calendar.observance.hebrew.IndependenceDay}.
  * Yom Hazikaron (Memorial Day) is coupled to Independence Day and always
  * observed one day before it.
@@ -57,6 +57,10 @@ public class HolidayCalendarServiceIL extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
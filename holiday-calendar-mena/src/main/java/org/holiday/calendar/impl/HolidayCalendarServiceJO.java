@@ -59,6 +59,10 @@ public class HolidayCalendarServiceJO extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -66,6 +70,7 @@ public class HolidayCalendarServiceJO extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(JordanHolidays.JORDAN_WEEKEND)
                 .holidays(JordanHolidays.baseHolidays(true))
+                .dataValidThrough(JordanHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -60,12 +60,17 @@ public class HolidayCalendarServiceJOD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(JordanHolidays.JORDAN_WEEKEND)
                 .holidays(JordanHolidays.jodHolidays())
+                .dataValidThrough(JordanHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
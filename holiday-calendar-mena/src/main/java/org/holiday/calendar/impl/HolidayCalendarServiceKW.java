@@ -59,6 +59,10 @@ public class HolidayCalendarServiceKW extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -66,6 +70,7 @@ public class HolidayCalendarServiceKW extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(KuwaitHolidays.KUWAIT_WEEKEND)
                 .holidays(KuwaitHolidays.baseHolidays(true))
+                .dataValidThrough(KuwaitHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -59,12 +59,17 @@ public class HolidayCalendarServiceKWD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(KuwaitHolidays.KUWAIT_WEEKEND)
                 .holidays(KuwaitHolidays.kwdHolidays())
+                .dataValidThrough(KuwaitHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
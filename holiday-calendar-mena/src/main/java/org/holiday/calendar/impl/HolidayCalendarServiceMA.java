@@ -67,12 +67,17 @@ public class HolidayCalendarServiceMA extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.followingMonday())
                 .weekendDays(MoroccoHolidays.MOROCCO_WEEKEND)
                 .holidays(MoroccoHolidays.maHolidays())
+                .dataValidThrough(MoroccoHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -67,12 +67,17 @@ public class HolidayCalendarServiceMAD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(MoroccoHolidays.MOROCCO_WEEKEND)
                 .holidays(MoroccoHolidays.madHolidays())
+                .dataValidThrough(MoroccoHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
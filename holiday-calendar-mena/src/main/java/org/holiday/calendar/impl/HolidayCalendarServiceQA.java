@@ -60,6 +60,10 @@ public class HolidayCalendarServiceQA extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -67,6 +71,7 @@ public class HolidayCalendarServiceQA extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.previousThursdayOrFollowingSunday())
                 .weekendDays(QatarHolidays.QATAR_WEEKEND)
                 .holidays(QatarHolidays.baseHolidays(true))
+                .dataValidThrough(QatarHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
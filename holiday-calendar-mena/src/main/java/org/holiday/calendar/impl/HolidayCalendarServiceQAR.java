@@ -63,12 +63,17 @@ public class HolidayCalendarServiceQAR extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(QatarHolidays.QATAR_WEEKEND)
                 .holidays(QatarHolidays.qarHolidays())
+                .dataValidThrough(QatarHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
@@ -61,6 +61,10 @@ public class HolidayCalendarServiceSA extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
@@ -68,6 +72,7 @@ public class HolidayCalendarServiceSA extends AbstractHolidayCalendarService {
                 .dateRoll(DateRolls.followingSunday())
                 .weekendDays(SaudiHolidays.SAUDI_WEEKEND)
                 .holidays(SaudiHolidays.baseHolidays(true))
+                .dataValidThrough(SaudiHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
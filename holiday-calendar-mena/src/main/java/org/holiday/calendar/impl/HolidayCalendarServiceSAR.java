@@ -55,12 +55,17 @@ public class HolidayCalendarServiceSAR extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(SaudiHolidays.SAUDI_WEEKEND)
                 .holidays(SaudiHolidays.baseHolidays(false))
+                .dataValidThrough(SaudiHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
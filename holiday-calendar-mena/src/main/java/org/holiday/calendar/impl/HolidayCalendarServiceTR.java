@@ -70,12 +70,17 @@ public class HolidayCalendarServiceTR extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.followingMonday())
                 .weekendDays(TurkeyHolidays.STANDARD_WEEKEND)
                 .holidays(TurkeyHolidays.baseHolidays(true, List.of()))
+                .dataValidThrough(TurkeyHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
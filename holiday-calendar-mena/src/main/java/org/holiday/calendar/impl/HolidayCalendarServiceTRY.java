@@ -63,12 +63,17 @@ public class HolidayCalendarServiceTRY extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         return HolidayCalendar.builder()
                 .code(CODE)
                 .name(NAME)
                 .dateRoll(DateRolls.noRoll())
                 .weekendDays(TurkeyHolidays.STANDARD_WEEKEND)
                 .holidays(TurkeyHolidays.baseHolidays(false, List.of()))
+                .dataValidThrough(TurkeyHolidays.DATA_VALID_THROUGH)
                 .build();
     }
 
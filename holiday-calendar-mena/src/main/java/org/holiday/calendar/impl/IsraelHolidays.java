@@ -42,7 +42,8 @@ import java.util.List;
  * {@link #ilHolidays()} returns ten holidays for the {@code IL} national calendar,
  * adding Yom Hazikaron (Israeli Memorial Day, 4 Iyar).
  *
- * <p>All holidays are computed algorithmically via
+ * <p>All holidays are computed as offsets from the Rosh Hashanah and Passover
+ * anchors of the Hebrew calendar, precomputed from
  * {@code net.time4j.calendar.HebrewCalendar}; no CSV lookup tables are used.
  * All holidays are declared {@code rollable(false)} because Hebrew calendar
  * dates are observed on specific calendar days regardless of the day of week.
@@ -45,7 +45,12 @@ public class ShamElNessim extends CompositeObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(1);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.epochDay(year) + 1;
     }
 
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.hebrew;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.HebrewCalendar;
+import net.time4j.calendar.HebrewMonth;
+
+import java.time.LocalDate;
+
+/**
+ * Precomputed anchors of the Hebrew calendar for the Gregorian years
+ * {@value #FIRST_YEAR} through {@value #LAST_YEAR}, from which every Hebrew
+ * observance is derived by adding a fixed number of days.
+ *
+ * <p>Two anchors fall in each Gregorian year: 15 Nisan (Passover) in spring
+ * and 1 Tishri (Rosh Hashanah) in autumn. The months Nisan through Elul have
+ * fixed lengths, so 1 Tishri is always 163 days after the preceding 15 Nisan
+ * and only Rosh Hashanah need be tabulated, as its day counted from
+ * 31 August (5 September to 5 October in this range).</p>
+ *
+ * <p>The table was generated from Time4J's {@code HebrewCalendar}, which
+ * remains the source of dates for years outside it and is only loaded when
+ * such a year is requested.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class HebrewAnchorTable {
+
+    /** First Gregorian year covered by the table. */
+    static final int FIRST_YEAR = 1900;
+
+    /** Last Gregorian year covered by the table. */
+    static final int LAST_YEAR = 2200;
+
+    /** Days from 15 Nisan to the following 1 Tishri. */
+    static final int PASSOVER_TO_ROSH_HASHANAH = 163;
+
+    private static final byte[] ROSH_HASHANAH_DAY_OF_SEPTEMBER = {
+        24, 14, 32, 22, 10, 30, 20,  9, 26, 16, 34, 23, 12, 32, 21,  9, 28, 17,  7, 25,   // 1900
+        13, 33, 23, 11, 29, 19,  9, 27, 15, 35, 23, 12, 31, 21, 10, 28, 17,  6, 26, 14,   // 1920
+        33, 22, 12, 30, 18,  8, 26, 15, 34, 24, 12, 31, 20, 10, 28, 17,  6, 26, 15, 33,   // 1940
+        22, 11, 29, 19,  7, 27, 15, 35, 23, 13, 31, 20,  9, 27, 17,  6, 25, 13, 32, 22,   // 1960
+        11, 29, 18,  8, 27, 16, 34, 24, 12, 30, 20,  9, 28, 16,  6, 25, 14, 32, 21, 11,   // 1980
+        30, 18,  7, 27, 16, 34, 23, 13, 30, 19,  9, 29, 17,  5, 25, 14, 33, 21, 10, 30,   // 2000
+        19,  7, 26, 16, 33, 23, 12, 32, 21, 10, 28, 18,  6, 24, 14, 34, 22, 10, 30, 19,   // 2020
+         8, 26, 15, 35, 22, 12, 31, 21,  8, 27, 17,  7, 24, 13, 33, 23, 11, 29, 19,  8,   // 2040
+        25, 15, 35, 24, 11, 31, 20, 10, 27, 16,  6, 24, 13, 32, 22, 10, 28, 18,  8, 26,   // 2060
+        14, 34, 24, 13, 30, 20,  9, 27, 16,  5, 25, 13, 32, 21, 11, 29, 17,  7, 27, 15,   // 2080
+        34, 24, 14, 32, 20, 10, 30, 19,  6, 26, 15, 33, 22, 11, 31, 19,  7, 27, 17, 35,   // 2100
+        23, 13, 31, 21,  9, 29, 19,  8, 25, 15, 33, 22, 11, 31, 20,  8, 27, 16, 34, 24,   // 2120
+        12, 32, 20, 10, 28, 18,  6, 25, 14, 32, 22, 11, 30, 20,  9, 27, 16, 34, 23, 13,   // 2140
+        32, 21,  9, 29, 17,  7, 25, 14, 33, 21, 11, 30, 19,  7, 26, 16, 35, 23, 12, 32,   // 2160
+        21, 10, 28, 18,  6, 26, 14, 34, 22, 12, 30, 19,  8, 26, 15, 35, 24, 12, 31, 21,   // 2180
+        11    // 2200
+    };
+
+    private static final int[] ROSH_HASHANAH_EPOCH_DAYS = new int[ROSH_HASHANAH_DAY_OF_SEPTEMBER.length];
+
+    static {
+        for (int i = 0; i < ROSH_HASHANAH_EPOCH_DAYS.length; i++) {
+            final long august31 = LocalDate.of(FIRST_YEAR + i, 8, 31).toEpochDay();
+            ROSH_HASHANAH_EPOCH_DAYS[i] = Math.toIntExact(august31 + ROSH_HASHANAH_DAY_OF_SEPTEMBER[i]);
+        }
+    }
+
+    private HebrewAnchorTable() {}
+
+    static boolean contains(int year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    /**
+     * Get the epoch day of 1 Tishri of the Hebrew year beginning in the autumn
+     * of the given Gregorian year ({@code year + 3761}).
+     *
+     * @param year Gregorian year
+     * @return epoch day of Rosh Hashanah
+     */
+    static long roshHashanah(int year) {
+        if (!contains(year)) {
+            return Fallback.date(year + 3761, HebrewMonth.TISHRI, 1);
+        }
+        return ROSH_HASHANAH_EPOCH_DAYS[year - FIRST_YEAR];
+    }
+
+    /**
+     * Get the epoch day of 15 Nisan of the Hebrew year whose spring falls in
+     * the given Gregorian year ({@code year + 3760}).
+     *
+     * @param year Gregorian year
+     * @return epoch day of the first day of Passover
+     */
+    static long passover(int year) {
+        if (!contains(year)) {
+            return Fallback.date(year + 3760, HebrewMonth.NISAN, 15);
+        }
+        return ROSH_HASHANAH_EPOCH_DAYS[year - FIRST_YEAR] - PASSOVER_TO_ROSH_HASHANAH;
+    }
+
+    /**
+     * Conversion via Time4J for years outside the table, memoized in a small
+     * direct-mapped cache keyed by Hebrew date. Every observance of a year
+     * derives from one of its two anchors, so a year beyond the table costs
+     * at most two conversions however many holidays are calculated for it.
+     */
+    private static final class Fallback {
+
+        private static final int CACHE_BITS = 7;
+
+        private record Entry(long key, long epochDay) {}
+
+        // Entries are immutable, so an unsynchronized read sees a whole entry or none
+        private static final Entry[] CACHE = new Entry[1 << CACHE_BITS];
+
+        static long date(int hebrewYear, HebrewMonth month, int dayOfMonth) {
+            final long key = ((long) hebrewYear << 9) | (month.ordinal() << 5) | dayOfMonth;
+            final int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - CACHE_BITS));
+            final Entry entry = CACHE[slot];
+            if (entry != null && entry.key() == key) {
+                return entry.epochDay();
+            }
+            final long epochDay = HebrewCalendar.of(hebrewYear, month, dayOfMonth)
+                    .transform(PlainDate.axis())
+                    .toTemporalAccessor()
+                    .toEpochDay();
+            CACHE[slot] = new Entry(key, epochDay);
+            return epochDay;
+        }
+
+    }
+
+}
@@ -18,9 +18,6 @@
 
 package org.holiday.calendar.observance.hebrew;
 
-import net.time4j.PlainDate;
-import net.time4j.calendar.HebrewCalendar;
-import net.time4j.calendar.HebrewMonth;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
@@ -56,9 +53,15 @@ public class IndependenceDay extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        LocalDate natural = HebrewCalendar.of(year + 3760, HebrewMonth.IYAR, 5)
-                .transform(PlainDate.axis())
-                .toTemporalAccessor();
+        return observedDate(year);
+    }
+
+    /**
+     * Observed date of Independence Day in the given Gregorian year; 5 Iyar
+     * is 20 days after 15 Nisan.
+     */
+    static LocalDate observedDate(int year) {
+        LocalDate natural = LocalDate.ofEpochDay(HebrewAnchorTable.passover(year) + 20);
 
         return switch (natural.getDayOfWeek()) {
             case SUNDAY   -> natural.plusDays(1);   // Iyar 4 = Shabbat → observed Monday
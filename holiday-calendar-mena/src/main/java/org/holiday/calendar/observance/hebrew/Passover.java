@@ -18,9 +18,6 @@
 
 package org.holiday.calendar.observance.hebrew;
 
-import net.time4j.PlainDate;
-import net.time4j.calendar.HebrewCalendar;
-import net.time4j.calendar.HebrewMonth;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
@@ -38,9 +35,7 @@ public class Passover extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return HebrewCalendar.of(year + 3760, HebrewMonth.NISAN, 15)
-                .transform(PlainDate.axis())
-                .toTemporalAccessor();
+        return LocalDate.ofEpochDay(HebrewAnchorTable.passover(year));
     }
 
 }
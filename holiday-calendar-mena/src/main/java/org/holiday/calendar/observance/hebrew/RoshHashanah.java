@@ -18,9 +18,6 @@
 
 package org.holiday.calendar.observance.hebrew;
 
-import net.time4j.PlainDate;
-import net.time4j.calendar.HebrewCalendar;
-import net.time4j.calendar.HebrewMonth;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
@@ -28,8 +25,9 @@ import java.time.LocalDate;
 /**
  * Observance of Rosh Hashanah (1 Tishri) — the Jewish New Year, first day.
  *
- * <p>Computed algorithmically via {@link HebrewCalendar}. The Hebrew year
- * beginning in autumn of the given Gregorian year is {@code gregorianYear + 3761}.
+ * <p>Read from the {@link HebrewAnchorTable Hebrew anchor table}. The Hebrew
+ * year beginning in autumn of the given Gregorian year is
+ * {@code gregorianYear + 3761}.
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
@@ -37,9 +35,7 @@ public class RoshHashanah extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return HebrewCalendar.of(year + 3761, HebrewMonth.TISHRI, 1)
-                .transform(PlainDate.axis())
-                .toTemporalAccessor();
+        return LocalDate.ofEpochDay(HebrewAnchorTable.roshHashanah(year));
     }
 
 }
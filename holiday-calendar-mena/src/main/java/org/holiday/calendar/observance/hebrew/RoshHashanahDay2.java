@@ -18,9 +18,6 @@
 
 package org.holiday.calendar.observance.hebrew;
 
-import net.time4j.PlainDate;
-import net.time4j.calendar.HebrewCalendar;
-import net.time4j.calendar.HebrewMonth;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
@@ -34,9 +31,7 @@ public class RoshHashanahDay2 extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return HebrewCalendar.of(year + 3761, HebrewMonth.TISHRI, 2)
-                .transform(PlainDate.axis())
-                .toTemporalAccessor();
+        return LocalDate.ofEpochDay(HebrewAnchorTable.roshHashanah(year) + 1);
     }
 
 }
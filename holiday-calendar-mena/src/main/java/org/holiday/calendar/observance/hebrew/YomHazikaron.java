@@ -35,11 +35,9 @@ import java.time.LocalDate;
  */
 public class YomHazikaron extends AbstractObservance {
 
-    private final IndependenceDay independenceDay = new IndependenceDay();
-
     @Override
     protected LocalDate computeDate(int year) {
-        return independenceDay.apply(year).minusDays(1);
+        return IndependenceDay.observedDate(year).minusDays(1);
     }
 
 }
@@ -19,13 +19,11 @@
 package org.holiday.calendar.observance.islamic.mena;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import org.holiday.calendar.util.CsvObservanceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Observance of Arafat Day (9 Dhu al-Hijjah AH), the day of standing at Mount
@@ -48,19 +46,22 @@ public class ArafatDay extends AbstractObservance {
     static final int DATA_VALID_THROUGH = 2055;
 
     private static final Logger log = LoggerFactory.getLogger(ArafatDay.class);
-    private static final ConcurrentHashMap<String, Map<Integer, LocalDate>> CACHE =
-            new ConcurrentHashMap<>();
-
-    private final Map<Integer, LocalDate> dates;
+    private final IslamicDates dates;
+    private final String resource;
 
     public ArafatDay(String countryCode) {
-        this.dates = CACHE.computeIfAbsent(countryCode.toLowerCase(),
-                cc -> CsvObservanceLoader.loadSingle(ArafatDay.class, "arafat-day-" + cc + ".csv"));
+        this.dates = IslamicDates.of(countryCode);
+        this.resource = dates.attach(IslamicDates.Column.ARAFAT_DAY);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return dates.get(year);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return dates.epochDay(IslamicDates.Column.ARAFAT_DAY, year);
     }
 
     @Override
@@ -69,7 +70,12 @@ public class ArafatDay extends AbstractObservance {
             log.warn("Year {} exceeds data ceiling {}; Arafat Day date unavailable", year, DATA_VALID_THROUGH);
             return false;
         }
-        return dates.containsKey(year);
+        return dates.contains(IslamicDates.Column.ARAFAT_DAY, year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(resource);
     }
 
 }
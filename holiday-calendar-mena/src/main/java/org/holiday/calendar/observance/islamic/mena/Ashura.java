@@ -19,13 +19,11 @@
 package org.holiday.calendar.observance.islamic.mena;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import org.holiday.calendar.util.CsvObservanceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Observance of Ashura (10 Muharram AH), the first day of the two-day Ashura
@@ -56,19 +54,22 @@ public class Ashura extends AbstractObservance {
     static final int DATA_VALID_THROUGH = 2055;
 
     private static final Logger log = LoggerFactory.getLogger(Ashura.class);
-    private static final ConcurrentHashMap<String, Map<Integer, LocalDate>> CACHE =
-            new ConcurrentHashMap<>();
-
-    private final Map<Integer, LocalDate> dates;
+    private final IslamicDates dates;
+    private final String resource;
 
     public Ashura(String countryCode) {
-        this.dates = CACHE.computeIfAbsent(countryCode.toLowerCase(),
-                cc -> CsvObservanceLoader.loadSingle(Ashura.class, "ashura-" + cc + ".csv"));
+        this.dates = IslamicDates.of(countryCode);
+        this.resource = dates.attach(IslamicDates.Column.ASHURA);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return dates.get(year);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return dates.epochDay(IslamicDates.Column.ASHURA, year);
     }
 
     @Override
@@ -77,7 +78,12 @@ public class Ashura extends AbstractObservance {
             log.warn("Year {} exceeds data ceiling {}; Ashura date unavailable", year, DATA_VALID_THROUGH);
             return false;
         }
-        return dates.containsKey(year);
+        return dates.contains(IslamicDates.Column.ASHURA, year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(resource);
     }
 
 }
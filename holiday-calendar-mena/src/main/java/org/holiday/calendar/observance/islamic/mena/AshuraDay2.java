@@ -21,6 +21,7 @@ package org.holiday.calendar.observance.islamic.mena;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * Observance of the second day of Ashura (11 Muharram AH).
@@ -41,7 +42,12 @@ public class AshuraDay2 extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(1);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.computeEpochDay(year) + 1;
     }
 
     @Override
@@ -49,4 +55,9 @@ public class AshuraDay2 extends AbstractObservance {
         return base.test(year);
     }
 
+    @Override
+    public Set<String> dataResources() {
+        return base.dataResources();
+    }
+
 }
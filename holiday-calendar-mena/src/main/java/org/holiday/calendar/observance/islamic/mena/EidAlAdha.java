@@ -19,13 +19,11 @@
 package org.holiday.calendar.observance.islamic.mena;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import org.holiday.calendar.util.CsvObservanceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Observance of Eid al-Adha, the Feast of Sacrifice (10 Dhu al-Hijjah AH).
@@ -48,19 +46,22 @@ public class EidAlAdha extends AbstractObservance {
     static final int DATA_VALID_THROUGH = 2055;
 
     private static final Logger log = LoggerFactory.getLogger(EidAlAdha.class);
-    private static final ConcurrentHashMap<String, Map<Integer, LocalDate>> CACHE =
-            new ConcurrentHashMap<>();
-
-    private final Map<Integer, LocalDate> dates;
+    private final IslamicDates dates;
+    private final String resource;
 
     public EidAlAdha(String countryCode) {
-        this.dates = CACHE.computeIfAbsent(countryCode.toLowerCase(),
-                cc -> CsvObservanceLoader.loadSingle(EidAlAdha.class, "eid-al-adha-" + cc + ".csv"));
+        this.dates = IslamicDates.of(countryCode);
+        this.resource = dates.attach(IslamicDates.Column.EID_AL_ADHA);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return dates.get(year);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return dates.epochDay(IslamicDates.Column.EID_AL_ADHA, year);
     }
 
     @Override
@@ -69,7 +70,12 @@ public class EidAlAdha extends AbstractObservance {
             log.warn("Year {} exceeds data ceiling {}; Eid al-Adha date unavailable", year, DATA_VALID_THROUGH);
             return false;
         }
-        return dates.containsKey(year);
+        return dates.contains(IslamicDates.Column.EID_AL_ADHA, year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(resource);
     }
 
 }
@@ -21,6 +21,7 @@ package org.holiday.calendar.observance.islamic.mena;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * Observance of the second day of Eid al-Adha (11 Dhu al-Hijjah AH), marking
@@ -42,7 +43,12 @@ public class EidAlAdhaDay2 extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(1);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.computeEpochDay(year) + 1;
     }
 
     @Override
@@ -50,4 +56,9 @@ public class EidAlAdhaDay2 extends AbstractObservance {
         return base.test(year);
     }
 
+    @Override
+    public Set<String> dataResources() {
+        return base.dataResources();
+    }
+
 }
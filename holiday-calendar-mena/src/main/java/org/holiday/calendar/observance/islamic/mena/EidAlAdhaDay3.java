@@ -21,6 +21,7 @@ package org.holiday.calendar.observance.islamic.mena;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * Observance of the third day of Eid al-Adha (12 Dhu al-Hijjah AH), marking
@@ -42,7 +43,12 @@ public class EidAlAdhaDay3 extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(2);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.computeEpochDay(year) + 2;
     }
 
     @Override
@@ -50,4 +56,9 @@ public class EidAlAdhaDay3 extends AbstractObservance {
         return base.test(year);
     }
 
+    @Override
+    public Set<String> dataResources() {
+        return base.dataResources();
+    }
+
 }
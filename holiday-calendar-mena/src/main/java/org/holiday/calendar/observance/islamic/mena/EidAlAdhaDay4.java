@@ -21,6 +21,7 @@ package org.holiday.calendar.observance.islamic.mena;
 import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * Observance of the fourth day of Eid al-Adha (13 Dhu al-Hijjah AH), marking
@@ -45,7 +46,12 @@ public class EidAlAdhaDay4 extends AbstractObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(3);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.computeEpochDay(year) + 3;
     }
 
     @Override
@@ -53,4 +59,9 @@ public class EidAlAdhaDay4 extends AbstractObservance {
         return base.test(year);
     }
 
+    @Override
+    public Set<String> dataResources() {
+        return base.dataResources();
+    }
+
 }
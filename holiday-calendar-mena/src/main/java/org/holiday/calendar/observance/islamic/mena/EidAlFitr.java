@@ -19,13 +19,11 @@
 package org.holiday.calendar.observance.islamic.mena;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import org.holiday.calendar.util.CsvObservanceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Observance of Eid al-Fitr, marking the end of Ramadan (1 Shawwal AH).
@@ -52,19 +50,22 @@ public class EidAlFitr extends AbstractObservance {
     static final int DATA_VALID_THROUGH = 2055;
 
     private static final Logger log = LoggerFactory.getLogger(EidAlFitr.class);
-    private static final ConcurrentHashMap<String, Map<Integer, LocalDate>> CACHE =
-            new ConcurrentHashMap<>();
-
-    private final Map<Integer, LocalDate> dates;
+    private final IslamicDates dates;
+    private final String resource;
 
     public EidAlFitr(String countryCode) {
-        this.dates = CACHE.computeIfAbsent(countryCode.toLowerCase(),
-                cc -> CsvObservanceLoader.loadSingle(EidAlFitr.class, "eid-al-fitr-" + cc + ".csv"));
+        this.dates = IslamicDates.of(countryCode);
+        this.resource = dates.attach(IslamicDates.Column.EID_AL_FITR);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return dates.get(year);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return dates.epochDay(IslamicDates.Column.EID_AL_FITR, year);
     }
 
     @Override
@@ -73,7 +74,12 @@ public class EidAlFitr extends AbstractObservance {
             log.warn("Year {} exceeds data ceiling {}; Eid al-Fitr date unavailable", year, DATA_VALID_THROUGH);
             return false;
         }
-        return dates.containsKey(year);
+        return dates.contains(IslamicDates.Column.EID_AL_FITR, year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(resource);
     }
 
 }
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.islamic.mena;
+
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.holiday.calendar.util.ObservanceData;
+import org.holiday.calendar.util.YearTable;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Islamic observance dates of one country, held in a single columnar table
+ * of epoch days indexed by year and observance. All observances of a country
+ * share one instance, so each of the country's {@code <observance>-<cc>.csv}
+ * resources is attached once and a date is one array read, however many
+ * observances and multi-day variants a calendar declares.
+ *
+ * <p>Each column is backed by the reloadable {@link ObservanceData} of its
+ * resource. When a resource is reloaded the table is rebuilt on the next
+ * lookup of that column.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class IslamicDates {
+
+    /**
+     * Observances held by the table, each read from the resource
+     * {@code <prefix>-<cc>.csv}.
+     */
+    enum Column {
+        EID_AL_FITR("eid-al-fitr"),
+        EID_AL_ADHA("eid-al-adha"),
+        ARAFAT_DAY("arafat-day"),
+        ISLAMIC_NEW_YEAR("islamic-new-year"),
+        PROPHETS_BIRTHDAY("mawlid"),
+        ASHURA("ashura"),
+        ISRA_MIRAJ("isra-miraj");
+
+        private final String prefix;
+
+        Column(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private static final int COLUMN_COUNT = Column.values().length;
+
+    private static final Map<String, IslamicDates> BY_COUNTRY = new ConcurrentHashMap<>();
+
+    private final String countryCode;
+    private final AtomicReferenceArray<ObservanceData<LocalDate>> columns =
+        new AtomicReferenceArray<>(COLUMN_COUNT);
+    private volatile Table table = new Table(0, 0, new int[0], new YearTable[COLUMN_COUNT]);
+
+    private IslamicDates(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    /**
+     * Get the dates of the given country.
+     *
+     * @param countryCode ISO 3166-1 alpha-2 country code, in either case
+     * @return shared Islamic dates of the country
+     */
+    static IslamicDates of(String countryCode) {
+        return BY_COUNTRY.computeIfAbsent(countryCode.toLowerCase(Locale.ROOT), IslamicDates::new);
+    }
+
+    /**
+     * Attach the given column, loading its resource on first use.
+     *
+     * @param column observance to be looked up
+     * @return name of the column's reloadable resource
+     * @throws IllegalStateException if the country has no resource for the
+     *         observance
+     */
+    String attach(Column column) {
+        ObservanceData<LocalDate> data = columns.get(column.ordinal());
+        if (data == null) {
+            // The loader returns the same handle for the same resource, so a
+            // racing attach stores an identical value.
+            data = CsvObservanceLoader.reloadableSingle(IslamicDates.class,
+                                                        column.prefix + "-" + countryCode + ".csv");
+            columns.set(column.ordinal(), data);
+        }
+        return data.getResource();
+    }
+
+    /**
+     * Get the date of an attached observance in the given year as an epoch day.
+     *
+     * @param column attached observance
+     * @param year   Gregorian year
+     * @return epoch day, or {@link YearTable#MISSING} if there is no date
+     */
+    int epochDay(Column column, int year) {
+        final int c = column.ordinal();
+        Table current = table;
+        if (current.sources[c] != columns.get(c).table()) {
+            current = rebuild();
+        }
+        return current.epochDay(c, year);
+    }
+
+    boolean contains(Column column, int year) {
+        return epochDay(column, year) != YearTable.MISSING;
+    }
+
+    private synchronized Table rebuild() {
+        final YearTable[] sources = new YearTable[COLUMN_COUNT];
+        int firstYear = Integer.MAX_VALUE;
+        int lastYear = Integer.MIN_VALUE;
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            final ObservanceData<LocalDate> data = columns.get(c);
+            if (data == null) continue;
+            sources[c] = data.table();
+            if (sources[c].size() > 0) {
+                firstYear = Math.min(firstYear, sources[c].getFirstYear());
+                lastYear = Math.max(lastYear, sources[c].getLastYear());
+            }
+        }
+        if (firstYear > lastYear) {
+            firstYear = 0;
+            lastYear = -1;
+        }
+
+        final int years = lastYear - firstYear + 1;
+        final int[] epochDays = new int[years * COLUMN_COUNT];
+        Arrays.fill(epochDays, YearTable.MISSING);
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            if (sources[c] == null) continue;
+            for (int row = 0; row < years; row++) {
+                epochDays[row * COLUMN_COUNT + c] = sources[c].epochDay(firstYear + row);
+            }
+        }
+        final Table rebuilt = new Table(firstYear, years, epochDays, sources);
+        table = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Epoch days in year-major order, one row of {@link #COLUMN_COUNT}
+     * observances per year, with the column tables they were built from.
+     */
+    private record Table(int firstYear, int years, int[] epochDays, YearTable[] sources) {
+
+        int epochDay(int column, int year) {
+            final int row = year - firstYear;
+            return row >= 0 && row < years ? epochDays[row * COLUMN_COUNT + column] : YearTable.MISSING;
+        }
+    }
+
+}
@@ -19,13 +19,11 @@
 package org.holiday.calendar.observance.islamic.mena;
 
 import org.holiday.calendar.observance.AbstractObservance;
-import org.holiday.calendar.util.CsvObservanceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Observance of Islamic New Year (1 Muharram AH), the first day of the Islamic
@@ -49,19 +47,22 @@ public class IslamicNewYear extends AbstractObservance {
     static final int DATA_VALID_THROUGH = 2055;
 
     private static final Logger log = LoggerFactory.getLogger(IslamicNewYear.class);
-    private static final ConcurrentHashMap<String, Map<Integer, LocalDate>> CACHE =
-            new ConcurrentHashMap<>();
-
-    private final Map<Integer, LocalDate> dates;
+    private final IslamicDates dates;
+    private final String resource;
 
     public IslamicNewYear(String countryCode) {
-        this.dates = CACHE.computeIfAbsent(countryCode.toLowerCase(),
-                cc -> CsvObservanceLoader.loadSingle(IslamicNewYear.class, "islamic-new-year-" + cc + ".csv"));
+        this.dates = IslamicDates.of(countryCode);
+        this.resource = dates.attach(IslamicDates.Column.ISLAMIC_NEW_YEAR);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
-        return dates.get(year);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return dates.epochDay(IslamicDates.Column.ISLAMIC_NEW_YEAR, year);
     }
 
     @Override
@@ -70,7 +71,12 @@ public class IslamicNewYear extends AbstractObservance {
             log.warn("Year {} exceeds data ceiling {}; Islamic New Year date unavailable", year, DATA_VALID_THROUGH);
             return false;
         }
-        return dates.containsKey(year);
+        return dates.contains(IslamicDates.Column.ISLAMIC_NEW_YEAR, year);
+    }
+
+    @Override
+    public Set<String> dataResources() {
+        return Set.of(resource);
     }
 
 }
@@ -18,11 +18,17 @@
 
 package org.holiday.calendar.impl;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import org.holiday.calendar.HolidayCalendar;
 import org.holiday.calendar.HolidayCalendarFactory;
+import org.holiday.calendar.HolidayCalendarIndex;
 import org.holiday.calendar.HolidayDate;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.Test;
 
 import java.time.DayOfWeek;
@@ -33,6 +39,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import static org.testng.Assert.*;
 
@@ -328,6 +335,24 @@ public class HolidayCalendarServiceSATest {
                 "at boundary: " + atBoundary.size() + ", beyond: " + beyondBoundary.size());
     }
 
+    @Test
+    public void testIndexEndingAtDataValidThroughLogsNoWarning() {
+        int boundaryYear = service.dataValidThrough().orElseThrow();
+        Logger logger = (Logger) LoggerFactory.getLogger("org.holiday.calendar.observance.islamic.mena");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            HolidayCalendarIndex index =
+                    HolidayCalendarIndex.of(new HolidayCalendarServiceSA().getHolidayCalendar(), boundaryYear - 5, boundaryYear);
+            assertTrue(index.isHoliday(LocalDate.of(boundaryYear, Month.SEPTEMBER, 23)));
+        } finally {
+            logger.detachAppender(appender);
+        }
+        assertTrue(appender.list.stream().noneMatch(event -> event.getLevel() == Level.WARN),
+                "Indexing through the data ceiling must not calculate the year beyond it: " + appender.list);
+    }
+
     @Test
     public void testEidAlFitr2056AbsentSilently() {
         HolidayCalendar calendar = service.getHolidayCalendar();
@@ -383,6 +408,12 @@ public class HolidayCalendarServiceSATest {
         assertTrue(found, "Calendar must contain holiday: " + holidayName);
     }
 
+    @Test
+    public void testGetDataResources() {
+        assertEquals(service.getHolidayCalendar().getDataResources(),
+                     Set.of("eid-al-fitr-sa.csv", "eid-al-adha-sa.csv", "islamic-new-year-sa.csv", "mawlid-sa.csv"));
+    }
+
     private Optional<HolidayDate> findFirst(String name, int year) {
         return service.getHolidayCalendar().calculate(year).stream()
                 .filter(hd -> name.equals(hd.holiday().getName()))
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.hebrew;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.HebrewCalendar;
+import net.time4j.calendar.HebrewMonth;
+import org.holiday.calendar.function.Observance;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class HebrewAnchorTableTest {
+
+    @DataProvider
+    Iterator<Object[]> observances() {
+        // Observance, Hebrew year offset from the Gregorian year, month, day
+        return List.of(
+            new Object[]{new Passover(),         3760, HebrewMonth.NISAN,  15},
+            new Object[]{new PassoverEnd(),      3760, HebrewMonth.NISAN,  21},
+            new Object[]{new Shavuot(),          3760, HebrewMonth.SIVAN,   6},
+            new Object[]{new RoshHashanah(),     3761, HebrewMonth.TISHRI,  1},
+            new Object[]{new RoshHashanahDay2(), 3761, HebrewMonth.TISHRI,  2},
+            new Object[]{new YomKippur(),        3761, HebrewMonth.TISHRI, 10},
+            new Object[]{new Sukkot(),           3761, HebrewMonth.TISHRI, 15},
+            new Object[]{new SheminiAtzeret(),   3761, HebrewMonth.TISHRI, 22}
+        ).iterator();
+    }
+
+    @Test(dataProvider = "observances")
+    public void testObservanceMatchesTime4J(Observance observance, int yearOffset, HebrewMonth month, int day) {
+        for (int year = HebrewAnchorTable.FIRST_YEAR - 2; year <= HebrewAnchorTable.LAST_YEAR + 2; year++) {
+            assertEquals(observance.apply(year), toLocalDate(HebrewCalendar.of(year + yearOffset, month, day)),
+                         observance.getClass().getSimpleName() + " mismatch in " + year);
+        }
+    }
+
+    @Test
+    public void testOutsideTableRepeatedLookupsMatchTime4J() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int year = HebrewAnchorTable.LAST_YEAR + 1; year <= HebrewAnchorTable.LAST_YEAR + 150; year++) {
+                assertEquals(HebrewAnchorTable.passover(year),
+                             toLocalDate(HebrewCalendar.of(year + 3760, HebrewMonth.NISAN, 15)).toEpochDay(),
+                             "Passover mismatch in " + year);
+                assertEquals(HebrewAnchorTable.roshHashanah(year),
+                             toLocalDate(HebrewCalendar.of(year + 3761, HebrewMonth.TISHRI, 1)).toEpochDay(),
+                             "Rosh Hashanah mismatch in " + year);
+            }
+        }
+    }
+
+    @Test
+    public void testIndependenceDayMatchesTime4J() {
+        for (int year = HebrewAnchorTable.FIRST_YEAR; year <= HebrewAnchorTable.LAST_YEAR; year++) {
+            LocalDate iyar5 = toLocalDate(HebrewCalendar.of(year + 3760, HebrewMonth.IYAR, 5));
+            LocalDate expected = switch (iyar5.getDayOfWeek()) {
+                case SUNDAY, MONDAY -> iyar5.plusDays(1);
+                case FRIDAY         -> iyar5.minusDays(1);
+                case SATURDAY       -> iyar5.minusDays(2);
+                default             -> iyar5;
+            };
+            assertEquals(new IndependenceDay().apply(year), expected, "Independence Day mismatch in " + year);
+        }
+    }
+
+    @Test
+    public void testPassoverMatchesTime4J() {
+        for (int year = HebrewAnchorTable.FIRST_YEAR; year <= HebrewAnchorTable.LAST_YEAR; year++) {
+            assertEquals(HebrewAnchorTable.passover(year),
+                         toLocalDate(HebrewCalendar.of(year + 3760, HebrewMonth.NISAN, 15)).toEpochDay(),
+                         "Passover mismatch in " + year);
+        }
+    }
+
+    private static LocalDate toLocalDate(HebrewCalendar date) {
+        return date.transform(PlainDate.axis()).toTemporalAccessor();
+    }
+
+}
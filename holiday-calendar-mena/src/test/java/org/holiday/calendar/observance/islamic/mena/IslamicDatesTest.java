@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.islamic.mena;
+
+import org.holiday.calendar.util.CsvObservanceLoader;
+import org.holiday.calendar.util.YearTable;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class IslamicDatesTest {
+
+    @DataProvider
+    Iterator<Object[]> columnsByCountry() {
+        return List.of(
+            new Object[]{"sa", IslamicDates.Column.EID_AL_FITR},
+            new Object[]{"sa", IslamicDates.Column.EID_AL_ADHA},
+            new Object[]{"sa", IslamicDates.Column.ISLAMIC_NEW_YEAR},
+            new Object[]{"kw", IslamicDates.Column.ARAFAT_DAY},
+            new Object[]{"kw", IslamicDates.Column.ISRA_MIRAJ},
+            new Object[]{"kw", IslamicDates.Column.PROPHETS_BIRTHDAY},
+            new Object[]{"bh", IslamicDates.Column.ASHURA},
+            new Object[]{"tr", IslamicDates.Column.EID_AL_FITR}
+        ).iterator();
+    }
+
+    @Test(dataProvider = "columnsByCountry")
+    public void testColumnMatchesResource(String countryCode, IslamicDates.Column column) {
+        IslamicDates dates = IslamicDates.of(countryCode);
+        String resource = dates.attach(column);
+        Map<Integer, LocalDate> expected = CsvObservanceLoader.loadSingle(
+            IslamicDates.class, resource.substring(resource.lastIndexOf('/') + 1));
+
+        assertFalse(expected.isEmpty());
+        for (int year = 2000; year <= 2060; year++) {
+            LocalDate date = expected.get(year);
+            assertEquals(dates.epochDay(column, year), date == null ? YearTable.MISSING : date.toEpochDay(),
+                         column + " mismatch for " + countryCode + " in " + year);
+            assertEquals(dates.contains(column, year), date != null);
+        }
+    }
+
+    @Test
+    public void testSharedPerCountry() {
+        assertSame(IslamicDates.of("AE"), IslamicDates.of("ae"));
+        assertNotSame(IslamicDates.of("AE"), IslamicDates.of("SA"));
+        assertEquals(new EidAlFitr("AE").dataResources(), new EidAlFitrDay3("ae").dataResources());
+    }
+
+    @Test
+    public void testDayVariantsAreOffsets() {
+        IslamicDates dates = IslamicDates.of("KW");
+        dates.attach(IslamicDates.Column.EID_AL_ADHA);
+        for (int year = EidAlAdha.DATA_VALID_FROM; year <= EidAlAdha.DATA_VALID_THROUGH; year++) {
+            LocalDate day1 = LocalDate.ofEpochDay(dates.epochDay(IslamicDates.Column.EID_AL_ADHA, year));
+            assertEquals(new EidAlAdhaDay2("KW").apply(year), day1.plusDays(1));
+            assertEquals(new EidAlAdhaDay3("KW").apply(year), day1.plusDays(2));
+            assertEquals(new EidAlAdhaDay4("KW").apply(year), day1.plusDays(3));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testAttach_MissingResource_ThrowsIllegalStateException() {
+        IslamicDates.of("SA").attach(IslamicDates.Column.ASHURA);
+    }
+
+}
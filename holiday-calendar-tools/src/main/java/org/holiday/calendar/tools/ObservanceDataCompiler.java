@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.tools;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build-time compiler of observance CSV resources. For every directory under
+ * a resource root which contains {@code .csv} files, the rows of all of them
+ * are written to a single binary {@code observances.bin} in that directory,
+ * which {@code CsvObservanceLoader} then reads in place of the CSVs. The
+ * format is described by {@code CompiledObservanceData} in the core module.
+ *
+ * <p>Modules run this over {@code target/classes} in the
+ * {@code process-classes} phase, so the CSV sources remain the single point
+ * of maintenance and stay in the jar as a fallback. Every build compiles
+ * the resource afresh, so it is current for the CSVs packaged beside it.</p>
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+public final class ObservanceDataCompiler {
+
+    private static final String RESOURCE_NAME = "observances.bin";
+    private static final int MAGIC = 0x48434F42;   // "HCOB"
+    private static final short VERSION = 1;
+
+    private ObservanceDataCompiler() {}
+
+    /**
+     * Compile the observance CSVs under each given resource root.
+     *
+     * @param args resource root directories
+     * @throws IOException if a directory cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        for (String root : args) {
+            compileAll(Path.of(root));
+        }
+    }
+
+    /**
+     * Compile the observance CSVs in every directory under {@code root}.
+     *
+     * @param root resource root directory
+     * @return compiled resources written, in directory order
+     * @throws IOException if a directory cannot be read or written
+     */
+    public static List<Path> compileAll(Path root) throws IOException {
+        final List<Path> directories;
+        try (Stream<Path> paths = Files.walk(root)) {
+            directories = paths.filter(Files::isDirectory).sorted().toList();
+        }
+        final List<Path> compiled = new ArrayList<>();
+        for (Path directory : directories) {
+            if (compile(directory)) {
+                compiled.add(directory.resolve(RESOURCE_NAME));
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile the observance CSVs directly in {@code directory}, in file name
+     * order, into its {@code observances.bin}.
+     *
+     * @param directory directory holding CSV resources
+     * @return {@code true} if the directory held any CSV and was compiled
+     * @throws IOException if the directory cannot be read or written
+     */
+    public static boolean compile(Path directory) throws IOException {
+        final List<Path> csvFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            csvFiles = files.filter(f -> Files.isRegularFile(f) && f.getFileName().toString().endsWith(".csv"))
+                            .sorted()
+                            .toList();
+        }
+        if (csvFiles.isEmpty()) return false;
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(csvFiles.size());
+        for (Path csvFile : csvFiles) {
+            final String name = csvFile.getFileName().toString();
+            final ByteArrayOutputStream rows = new ByteArrayOutputStream();
+            final int rowCount = parse(Files.readString(csvFile, StandardCharsets.UTF_8), name, new DataOutputStream(rows));
+            final byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(encodedName.length);
+            out.write(encodedName);
+            out.writeInt(rowCount);
+            rows.writeTo(out);
+        }
+        out.flush();
+        Files.write(directory.resolve(RESOURCE_NAME), bytes.toByteArray());
+        return true;
+    }
+
+    /**
+     * Write the {@code (year, epochDay)} pair of each valid CSV row, applying
+     * the same rules as {@code CsvObservanceLoader}: blank lines and
+     * {@code #} comments are ignored, and malformed lines are reported and
+     * skipped.
+     *
+     * @return number of rows written
+     */
+    private static int parse(String csv, String csvName, DataOutputStream out) throws IOException {
+        final BufferedReader reader = new BufferedReader(new StringReader(csv));
+        int lineNumber = 0;
+        int rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (writeRow(line.split(",", 3), out)) {
+                rows++;
+            } else {
+                System.err.printf("Skipping malformed line %d in %s: '%s'%n", lineNumber, csvName, line);
+            }
+        }
+        return rows;
+    }
+
+    private static boolean writeRow(String[] parts, DataOutputStream out) throws IOException {
+        if (parts.length < 2) return false;
+        try {
+            final int year = Integer.parseInt(parts[0].strip());
+            final LocalDate date = LocalDate.parse(parts[1].strip());
+            out.writeInt(year);
+            out.writeInt(Math.toIntExact(date.toEpochDay()));
+            return true;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return false;
+        }
+    }
+
+}
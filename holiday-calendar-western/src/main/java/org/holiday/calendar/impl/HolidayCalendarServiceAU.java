@@ -48,6 +48,10 @@ public class HolidayCalendarServiceAU extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final EasterObservance easter = new WesternEaster();
         final GoodFriday goodFridayObs = new GoodFriday(easter);
 
@@ -54,6 +54,10 @@ public class HolidayCalendarServiceCA extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final EasterObservance easter = new WesternEaster();
 
         final Holiday newYearsDay = Holiday.builder()
@@ -74,6 +74,10 @@ public class HolidayCalendarServiceCAD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final EasterObservance easter = new WesternEaster();
 
         final Holiday newYearsDay = Holiday.builder()
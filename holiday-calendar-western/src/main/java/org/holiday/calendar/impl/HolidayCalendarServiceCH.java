@@ -49,6 +49,10 @@ public class HolidayCalendarServiceCH extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final EasterObservance easter = new WesternEaster();
 
         final Holiday newYearsDay = Holiday.builder()
@@ -55,6 +55,10 @@ public class HolidayCalendarServiceCHF extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final EasterObservance easter = new WesternEaster();
 
         final Holiday newYearsDay = Holiday.builder()
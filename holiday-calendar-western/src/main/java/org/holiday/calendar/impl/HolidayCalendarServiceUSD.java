@@ -51,6 +51,10 @@ public class HolidayCalendarServiceUSD extends AbstractHolidayCalendarService {
 
     @Override
     public HolidayCalendar getHolidayCalendar() {
+        return buildOnce(this::createHolidayCalendar);
+    }
+
+    private HolidayCalendar createHolidayCalendar() {
         final Holiday newYearsDay = Holiday.builder()
                                            .name("New Year's Day")
                                            .description("First day of new year in the Common Era (CE)")
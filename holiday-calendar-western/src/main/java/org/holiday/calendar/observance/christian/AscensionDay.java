@@ -48,7 +48,12 @@ public class AscensionDay extends CompositeObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).plusDays(daysAfterEaster);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.epochDay(year) + daysAfterEaster;
     }
 
 }
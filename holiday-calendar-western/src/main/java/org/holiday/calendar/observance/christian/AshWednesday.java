@@ -36,7 +36,12 @@ public class AshWednesday extends CompositeObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).minusDays(46);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.epochDay(year) - 46;
     }
 
 }
@@ -46,8 +46,12 @@ public class CorpusChristi extends CompositeObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        LocalDate actual = base.apply(year).plusDays(60);
-        return adjustToSunday ? actual.plusDays(3) : actual;
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.epochDay(year) + (adjustToSunday ? 63 : 60);
     }
 
 }
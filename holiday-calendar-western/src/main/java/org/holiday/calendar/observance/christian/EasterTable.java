@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Holiday Calendar - A library for definition and calculation of holiday calendars
+ * Copyright (C) 2021-2026 The Holiday Calendar Project Contributors
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option) any
+ * later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along
+ * with this library; if not, write to the Free Software Foundation, Inc., 59
+ * Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ ******************************************************************************/
+
+package org.holiday.calendar.observance.christian;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.function.IntFunction;
+
+/**
+ * Compact table of precomputed Easter Sunday dates, one byte per year. Each
+ * entry is the number of days after March 21 of that year, which covers every
+ * Gregorian date produced by {@link WesternEaster} and {@link OrthodoxEaster}
+ * (March 22 through mid-May).
+ *
+ * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
+ */
+final class EasterTable {
+
+    private static final int MARCH_BASE_DAY = 21;
+    // January and February of a common year, and March 1-20
+    private static final int DAYS_BEFORE_MARCH_BASE = 31 + 28 + MARCH_BASE_DAY - 1;
+
+    private final int fromYear;
+    private final byte[] offsets;
+
+    private EasterTable(int fromYear, byte[] offsets) {
+        this.fromYear = fromYear;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Build a table for years {@code fromYear} through {@code toYear} from
+     * the given Easter computation.
+     */
+    static EasterTable build(int fromYear, int toYear, IntFunction<LocalDate> easter) {
+        final byte[] offsets = new byte[toYear - fromYear + 1];
+        for (int year = fromYear; year <= toYear; year++) {
+            final LocalDate date = easter.apply(year);
+            offsets[year - fromYear] = (byte) (date.getDayOfYear() - LocalDate.of(year, Month.MARCH, MARCH_BASE_DAY).getDayOfYear());
+        }
+        return new EasterTable(fromYear, offsets);
+    }
+
+    boolean contains(int year) {
+        return year >= fromYear && year - fromYear < offsets.length;
+    }
+
+    /**
+     * Get the tabulated date of Easter Sunday. Only valid when
+     * {@link #contains(int)} returns {@code true} for the year.
+     */
+    LocalDate get(int year) {
+        return LocalDate.ofEpochDay(epochDay(year));
+    }
+
+    /**
+     * Get the tabulated date of Easter Sunday as an epoch day, without
+     * creating a {@link LocalDate}. Only valid when {@link #contains(int)}
+     * returns {@code true} for the year.
+     */
+    long epochDay(int year) {
+        return marchBaseEpochDay(year) + offsets[year - fromYear];
+    }
+
+    /**
+     * Epoch day of March 21 in the given (positive) year.
+     */
+    private static long marchBaseEpochDay(int year) {
+        final long y = year - 1L;
+        // 477 leap days fall between year 1 and 1969 inclusive
+        final long startOfYear = 365 * (y - 1969) + y / 4 - y / 100 + y / 400 - 477;
+        return startOfYear + DAYS_BEFORE_MARCH_BASE + (Year.isLeap(year) ? 1 : 0);
+    }
+
+}
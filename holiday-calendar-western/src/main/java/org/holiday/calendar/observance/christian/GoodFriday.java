@@ -38,7 +38,12 @@ public class GoodFriday extends CompositeObservance {
 
     @Override
     protected LocalDate computeDate(int year) {
-        return base.apply(year).minusDays(2);
+        return LocalDate.ofEpochDay(computeEpochDay(year));
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return base.epochDay(year) - 2;
     }
 
 }
@@ -22,12 +22,6 @@ import org.holiday.calendar.observance.AbstractObservance;
 
 import java.time.LocalDate;
 import java.time.Month;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Observance of <em>Orthodox</em> Easter as recognized by the Orthodox church.
@@ -35,7 +29,8 @@ import java.util.stream.IntStream;
  * Carl Friedrich Gauss.
  * <p>Due to the evolution of the computation of Easter Sunday during the
  * early-to-medieval period of the Christian church, this implementation of the
- * Gauss algorithm is only valid for years 530 - 3399 AD.</p>
+ * Gauss algorithm is only valid for years 530 - 3399 AD. Dates for the whole
+ * valid range are computed once into a shared table on first use.</p>
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
@@ -61,18 +56,23 @@ public class OrthodoxEaster extends AbstractObservance implements EasterObservan
             {3100, 3299, 22},
             {3300, 3399, 23},
     };
-    private static final Set<Integer> validYearRange = new HashSet<>();
-    private static final Map<Set<Integer>, Integer> dayAdjustments = new HashMap<>();
 
-    static {
-        validYearRange.addAll(IntStream.rangeClosed(MIN_VALID_YEAR, MAX_VALID_YEAR).boxed().collect(Collectors.toSet()));
-        for (int[] row : YEAR_RANGE_ADJUSTMENT_MATRIX) {
-            dayAdjustments.put(IntStream.rangeClosed(row[0], row[1]).boxed().collect(Collectors.toSet()), row[2]);
-        }
+    private static final class DatesHolder {
+        static final EasterTable TABLE =
+            EasterTable.build(MIN_VALID_YEAR, MAX_VALID_YEAR, OrthodoxEaster::calculate);
     }
 
     @Override
     protected LocalDate computeDate(int year) {
+        return DatesHolder.TABLE.get(year);
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        return DatesHolder.TABLE.epochDay(year);
+    }
+
+    static LocalDate calculate(int year) {
         final int Y = year;
         final float yearMod19 = Y % 19;
         final float yearMod4 = Y % 4;
@@ -93,18 +93,19 @@ public class OrthodoxEaster extends AbstractObservance implements EasterObservan
             month = 4;
         }
         final LocalDate julianEaster = LocalDate.of(year, Month.of(month), day);
-        final int daysToAdd = dayAdjustments.entrySet()
-                                            .stream()
-                                            .filter(entry -> entry.getKey().contains(year))
-                                            .mapToInt(Map.Entry::getValue)
-                                            .findFirst()
-                                            .orElse(0);
-        return julianEaster.plusDays(daysToAdd);
+        return julianEaster.plusDays(dayAdjustment(year));
     }
 
     @Override
     protected boolean isValidYear(int year) {
-        return validYearRange.contains(year);
+        return MIN_VALID_YEAR <= year && year <= MAX_VALID_YEAR;
+    }
+
+    private static int dayAdjustment(int year) {
+        for (int[] row : YEAR_RANGE_ADJUSTMENT_MATRIX) {
+            if (row[0] <= year && year <= row[1]) return row[2];
+        }
+        return 0;
     }
 
 }
@@ -31,16 +31,39 @@ import java.time.Month;
  * does not support a proleptic Gregorian calendar. Dates for years prior to
  * 1583 CE will be calculated the same as Orthodox Easter and simply returned as
  * the Gregorian date.</p>
+ * <p>Dates for years {@value #TABLE_FROM_YEAR} through {@value #TABLE_TO_YEAR}
+ * are computed once into a shared table on first use, so that observances
+ * derived from Easter reduce to an array lookup.</p>
  *
  * @author <a href="mailto:dave@osframework.org">Dave Joyce</a>
  */
 public class WesternEaster extends AbstractObservance implements EasterObservance {
 
+    public static final int TABLE_FROM_YEAR = 1583;
+    public static final int TABLE_TO_YEAR = 4099;
+
     private static final OrthodoxEaster PRE_1583 = new OrthodoxEaster();
 
+    private static final class DatesHolder {
+        static final EasterTable TABLE =
+            EasterTable.build(TABLE_FROM_YEAR, TABLE_TO_YEAR, WesternEaster::calculate);
+    }
+
     @Override
     protected LocalDate computeDate(int year) {
         if (1583 > year) return PRE_1583.apply(year);
+        if (DatesHolder.TABLE.contains(year)) return DatesHolder.TABLE.get(year);
+        return calculate(year);
+    }
+
+    @Override
+    protected long computeEpochDay(int year) {
+        if (1583 > year) return PRE_1583.epochDay(year);
+        if (DatesHolder.TABLE.contains(year)) return DatesHolder.TABLE.epochDay(year);
+        return calculate(year).toEpochDay();
+    }
+
+    static LocalDate calculate(int year) {
         final int a = year % 19;
         final int b = year / 100;
         final int c = year % 100;
@@ -64,7 +87,7 @@ public class WesternEaster extends AbstractObservance implements EasterObservanc
         return OrthodoxEaster.MIN_VALID_YEAR <= year;
     }
 
-    private int monthDividend(int h, int l, int m) {
+    private static int monthDividend(int h, int l, int m) {
         return (h + l - 7 * m + 114);
     }
 
@@ -39,6 +39,9 @@ public class GoodFridayTest {
         final GoodFriday goodFriday = new GoodFriday(easterObservance);
         LocalDate actual = goodFriday.apply(yearToCalculate);
         assertEquals(actual, expected);
+        if (expected != null) {
+            assertEquals(goodFriday.epochDay(yearToCalculate), expected.toEpochDay());
+        }
     }
 
     @DataProvider
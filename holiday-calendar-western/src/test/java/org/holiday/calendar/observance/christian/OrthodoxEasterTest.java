@@ -46,6 +46,20 @@ public class OrthodoxEasterTest {
         assertEquals(actual, expected);
     }
 
+    @Test(groups = "observance.christian")
+    public void testEpochDay_MatchesApply() {
+        for (int year = OrthodoxEaster.MIN_VALID_YEAR; year <= OrthodoxEaster.MAX_VALID_YEAR; year++) {
+            assertEquals(orthodoxEaster.epochDay(year), orthodoxEaster.apply(year).toEpochDay(), "Mismatch in " + year);
+        }
+    }
+
+    @Test(groups = "observance.christian")
+    public void testApply_TableMatchesCalculation() {
+        for (int year = OrthodoxEaster.MIN_VALID_YEAR; year <= OrthodoxEaster.MAX_VALID_YEAR; year++) {
+            assertEquals(orthodoxEaster.apply(year), OrthodoxEaster.calculate(year), "Mismatch in " + year);
+        }
+    }
+
     @DataProvider
     public Iterator<Object[]> data() {
         List<Object[]> data = new ArrayList<>();
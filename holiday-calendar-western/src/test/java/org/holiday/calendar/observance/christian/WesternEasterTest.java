@@ -18,6 +18,7 @@
 
 package org.holiday.calendar.observance.christian;
 
+import org.holiday.calendar.function.Observance;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -39,6 +40,21 @@ public class WesternEasterTest {
         assertEquals(actual, expected);
     }
 
+    @Test(groups = "observance.christian")
+    public void testApply_TableMatchesCalculation() {
+        for (int year = WesternEaster.TABLE_FROM_YEAR; year <= WesternEaster.TABLE_TO_YEAR + 1; year++) {
+            assertEquals(westernEaster.apply(year), WesternEaster.calculate(year), "Mismatch in " + year);
+        }
+    }
+
+    @Test(groups = "observance.christian")
+    public void testEpochDay_MatchesApply() {
+        for (int year = OrthodoxEaster.MIN_VALID_YEAR; year <= WesternEaster.TABLE_TO_YEAR + 1; year++) {
+            assertEquals(westernEaster.epochDay(year), westernEaster.apply(year).toEpochDay(), "Mismatch in " + year);
+        }
+        assertEquals(westernEaster.epochDay(OrthodoxEaster.MIN_VALID_YEAR - 1), Observance.NOT_OBSERVED);
+    }
+
     @DataProvider
     public Iterator<Object[]> data() {
         List<Object[]> data = new ArrayList<>();